@@ -20,14 +20,19 @@ import seedu.waddle.model.ModelManager;
 import seedu.waddle.model.ReadOnlyUserPrefs;
 import seedu.waddle.model.ReadOnlyWaddle;
 import seedu.waddle.model.UserPrefs;
+import seedu.waddle.model.UserPrefs.WaddleStorageType;
 import seedu.waddle.model.Waddle;
 import seedu.waddle.model.util.SampleDataUtil;
+import seedu.waddle.storage.BinaryWaddleStorage;
+import seedu.waddle.storage.JournalWaddleStorage;
 import seedu.waddle.storage.JsonUserPrefsStorage;
 import seedu.waddle.storage.JsonWaddleStorage;
+import seedu.waddle.storage.ShardedWaddleStorage;
 import seedu.waddle.storage.Storage;
 import seedu.waddle.storage.StorageManager;
 import seedu.waddle.storage.UserPrefsStorage;
 import seedu.waddle.storage.WaddleStorage;
+import seedu.waddle.storage.WriteBehindWaddleStorage;
 import seedu.waddle.ui.Ui;
 import seedu.waddle.ui.UiManager;
 
@@ -56,7 +61,7 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        WaddleStorage waddleStorage = new JsonWaddleStorage(userPrefs.getWaddleFilePath());
+        WaddleStorage waddleStorage = initWaddleStorage(userPrefs, userPrefsStorage);
         storage = new StorageManager(waddleStorage, userPrefsStorage);
 
         initLogging(config);
@@ -68,6 +73,85 @@ public class MainApp extends Application {
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns a {@code WaddleStorage} for the data file in {@code userPrefs}, of the type chosen in {@code userPrefs}.
+     * If the data was last stored with another type, it is converted to the chosen type first, and the type is
+     * recorded in {@code userPrefs} once it is. If the conversion fails, the type the data was last stored with is
+     * used instead, so that no data is lost.
+     */
+    private WaddleStorage initWaddleStorage(UserPrefs userPrefs, UserPrefsStorage userPrefsStorage) {
+        WaddleStorageType storageType = userPrefs.getWaddleStorageType();
+        if (userPrefs.isWriteBehindSave() && storageType != WaddleStorageType.JSON) {
+            logger.warning("Write-behind save is only supported with json storage. "
+                    + "Saving " + storageType + " storage as each command finishes");
+        }
+
+        // prefs saved before the type was recorded belong to data stored with the chosen type
+        WaddleStorageType lastStorageType = userPrefs.getLastWaddleStorageType().orElse(storageType);
+        WaddleStorage waddleStorage = createWaddleStorage(userPrefs, storageType);
+        if (lastStorageType != storageType) {
+            WaddleStorage lastWaddleStorage = createWaddleStorage(userPrefs, lastStorageType);
+            if (!convertWaddleData(lastWaddleStorage, lastStorageType, waddleStorage, storageType)) {
+                logger.warning("Using " + lastStorageType + " storage until the data can be converted");
+                return lastWaddleStorage;
+            }
+        }
+
+        if (userPrefs.getLastWaddleStorageType().orElse(null) != storageType) {
+            userPrefs.setLastWaddleStorageType(storageType);
+            // recorded straight away, so that the data is never converted again from the type it was converted from
+            try {
+                userPrefsStorage.saveUserPrefs(userPrefs);
+            } catch (IOException e) {
+                logger.warning("Failed to save preferences " + StringUtil.getDetails(e));
+            }
+        }
+        if (storageType == WaddleStorageType.JSON && userPrefs.isWriteBehindSave()) {
+            return new WriteBehindWaddleStorage(waddleStorage);
+        }
+        return waddleStorage;
+    }
+
+    private static WaddleStorage createWaddleStorage(ReadOnlyUserPrefs userPrefs, WaddleStorageType storageType) {
+        Path waddleFilePath = userPrefs.getWaddleFilePath();
+        boolean isCompact = userPrefs.isCompactJson();
+        boolean isLazy = userPrefs.isLazyLoading();
+        switch (storageType) {
+        case JOURNAL:
+            return new JournalWaddleStorage(waddleFilePath, isCompact, isLazy);
+        case SHARDED:
+            return new ShardedWaddleStorage(waddleFilePath, isCompact, isLazy);
+        case BINARY:
+            return new BinaryWaddleStorage(waddleFilePath, isLazy);
+        default:
+            return new JsonWaddleStorage(waddleFilePath, isCompact, isLazy);
+        }
+    }
+
+    /**
+     * Copies the data in {@code source}, if any, to {@code target}.
+     *
+     * @return false if the data could not be read or saved.
+     */
+    private boolean convertWaddleData(WaddleStorage source, WaddleStorageType sourceType, WaddleStorage target,
+            WaddleStorageType targetType) {
+        logger.info("Converting data from " + sourceType + " storage to " + targetType + " storage");
+        try {
+            Optional<ReadOnlyWaddle> waddle = source.readWaddle();
+            if (waddle.isEmpty()) {
+                logger.info("No " + sourceType + " data found to convert");
+                return true;
+            }
+            target.saveWaddle(waddle.get());
+            target.flush();
+            logger.info("Converted data to " + target.getWaddleFilePath());
+            return true;
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Data could not be converted from " + sourceType + " storage: " + e);
+            return false;
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s waddle and {@code userPrefs}. <br>
      * The data from the sample waddle will be used instead if {@code storage}'s waddle is not found,
@@ -174,6 +258,11 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Waddle ] =============================");
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -10,7 +10,6 @@ public class Text {
     public static final int INDENT_TWO = 2;
     public static final int INDENT_FOUR = 4;
     public static final DecimalFormat MONEY_PRINT_FORMATTER = new DecimalFormat("#,##0.00");
-    public static final DecimalFormat MONEY_SAVE_FORMATTER = new DecimalFormat("0.00");
 
     /**
      * Indents the input text by specified amount of spaces.
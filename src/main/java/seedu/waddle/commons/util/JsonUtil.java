@@ -2,12 +2,20 @@ package seedu.waddle.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
@@ -15,6 +23,8 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -28,7 +38,10 @@ import seedu.waddle.commons.exceptions.DataConversionException;
  */
 public class JsonUtil {
 
+    public static final String GZIP_FILE_EXTENSION = ".gz";
+
     private static final Logger logger = LogsCenter.getLogger(JsonUtil.class);
+    private static final int BUFFER_SIZE = 8192;
 
     private static ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
             .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
@@ -39,18 +52,76 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    // readers and writers are immutable and thread-safe, so they are created once and reused
+    private static final ObjectWriter prettyWriter = objectMapper.writerWithDefaultPrettyPrinter();
+    private static final ObjectWriter compactWriter = objectMapper.writer();
+    private static final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        serializeObjectToJsonFile(jsonFile, objectToSerialize, false);
+    }
+
+    static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize, boolean isCompact)
+            throws IOException {
+        try (OutputStream outputStream = openForWriting(jsonFile)) {
+            getWriter(isCompact).writeValue(outputStream, objectToSerialize);
+        }
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        try (InputStream inputStream = openForReading(jsonFile)) {
+            return getReader(classOfObjectToDeserialize).readValue(inputStream);
+        }
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} is to be written gzip-compressed, judging by its name.
+     */
+    public static boolean isGzipFile(Path filePath) {
+        return filePath.getFileName().toString().endsWith(GZIP_FILE_EXTENSION);
+    }
+
+    private static OutputStream openForWriting(Path jsonFile) throws IOException {
+        OutputStream outputStream = Files.newOutputStream(jsonFile);
+        if (isGzipFile(jsonFile)) {
+            // the gzip stream buffers its own input, so only its compressed output is buffered
+            return new GZIPOutputStream(new BufferedOutputStream(outputStream), BUFFER_SIZE);
+        }
+        return new BufferedOutputStream(outputStream);
+    }
+
+    /**
+     * Opens {@code jsonFile}, decompressing it if it starts with the gzip header regardless of its name.
+     */
+    private static InputStream openForReading(Path jsonFile) throws IOException {
+        InputStream inputStream = new BufferedInputStream(Files.newInputStream(jsonFile));
+        try {
+            inputStream.mark(2);
+            int header = inputStream.read() | (inputStream.read() << 8);
+            inputStream.reset();
+            if (header == GZIPInputStream.GZIP_MAGIC) {
+                return new BufferedInputStream(new GZIPInputStream(inputStream, BUFFER_SIZE));
+            }
+            return inputStream;
+        } catch (IOException e) {
+            inputStream.close();
+            throw e;
+        }
+    }
+
+    private static ObjectReader getReader(Class<?> classOfObjectToDeserialize) {
+        return readers.computeIfAbsent(classOfObjectToDeserialize, objectMapper::readerFor);
+    }
+
+    private static ObjectWriter getWriter(boolean isCompact) {
+        return isCompact ? compactWriter : prettyWriter;
     }
 
     /**
      * Returns the Json object from the given file or {@code Optional.empty()} object if the file is not found.
      * If any values are missing from the file, default values will be used, as long as the file is a valid json file.
+     * A gzip-compressed file is detected by its contents and decompressed as it is read.
      * @param filePath cannot be null.
      * @param classOfObjectToDeserialize Json file has to correspond to the structure in the class given here.
      * @throws DataConversionException if the file format is not as expected.
@@ -79,15 +150,24 @@ public class JsonUtil {
     /**
      * Saves the Json object to the specified file.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * The file is gzip-compressed as it is written if its name ends with {@value #GZIP_FILE_EXTENSION}.
      * @param jsonFile cannot be null
      * @param filePath cannot be null
      * @throws IOException if there was an error during writing to the file
      */
     public static <T> void saveJsonFile(T jsonFile, Path filePath) throws IOException {
+        saveJsonFile(jsonFile, filePath, false);
+    }
+
+    /**
+     * Similar to {@link #saveJsonFile(Object, Path)}.
+     * @param isCompact if true, the file is written without line breaks and indentation.
+     */
+    public static <T> void saveJsonFile(T jsonFile, Path filePath, boolean isCompact) throws IOException {
         requireNonNull(filePath);
         requireNonNull(jsonFile);
 
-        serializeObjectToJsonFile(filePath, jsonFile);
+        serializeObjectToJsonFile(filePath, jsonFile, isCompact);
     }
 
 
@@ -97,7 +177,7 @@ public class JsonUtil {
      * @return The instance of T with the specified values in the JSON string
      */
     public static <T> T fromJsonString(String json, Class<T> instanceClass) throws IOException {
-        return objectMapper.readValue(json, instanceClass);
+        return getReader(instanceClass).readValue(json);
     }
 
     /**
@@ -107,7 +187,17 @@ public class JsonUtil {
      * @return JSON data representation of the given class instance, in string
      */
     public static <T> String toJsonString(T instance) throws JsonProcessingException {
-        return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
+        return prettyWriter.writeValueAsString(instance);
+    }
+
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return compactWriter.writeValueAsString(instance);
     }
 
     /**
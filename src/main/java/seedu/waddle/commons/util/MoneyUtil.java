@@ -0,0 +1,61 @@
+package seedu.waddle.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import seedu.waddle.commons.core.Text;
+
+/**
+ * Helper functions for handling amounts of money.
+ * Amounts are held as a whole number of cents so that arithmetic on them is exact.
+ */
+public class MoneyUtil {
+    /** The largest amount of a cost or budget, in cents. */
+    public static final long MAX_CENTS = 100_000_000L;
+    private static final int CENTS_SCALE = 2;
+
+    /**
+     * Returns true if {@code test} is a decimal amount from $0 to {@code maxCents} cents.
+     *
+     * @param test     The string to check.
+     * @param maxCents The largest valid amount, in cents.
+     * @return True if the amount is valid.
+     */
+    public static boolean isValidAmount(String test, long maxCents) {
+        requireNonNull(test);
+        BigDecimal amount;
+        try {
+            amount = new BigDecimal(test);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        return amount.signum() >= 0 && amount.compareTo(BigDecimal.valueOf(maxCents, CENTS_SCALE)) <= 0;
+    }
+
+    /**
+     * Parses a decimal amount in dollars into cents, rounding half up to the nearest cent.
+     *
+     * @param amount An amount that is valid as declared in {@link #isValidAmount(String, long)}.
+     * @return The amount in cents.
+     */
+    public static long parseCents(String amount) {
+        requireNonNull(amount);
+        return new BigDecimal(amount).setScale(CENTS_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Formats an amount in cents for display, e.g. {@code 1,234.50}.
+     */
+    public static String toDisplayString(long cents) {
+        return Text.MONEY_PRINT_FORMATTER.format(BigDecimal.valueOf(cents, CENTS_SCALE));
+    }
+
+    /**
+     * Formats an amount in cents for saving, e.g. {@code 1234.50}.
+     */
+    public static String toSaveString(long cents) {
+        return BigDecimal.valueOf(cents, CENTS_SCALE).toPlainString();
+    }
+}
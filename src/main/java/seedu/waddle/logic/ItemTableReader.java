@@ -0,0 +1,165 @@
+package seedu.waddle.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.waddle.logic.parser.ParserUtil;
+import seedu.waddle.logic.parser.exceptions.ParseException;
+import seedu.waddle.model.item.Cost;
+import seedu.waddle.model.item.Duration;
+import seedu.waddle.model.item.Item;
+import seedu.waddle.model.item.Priority;
+import seedu.waddle.model.itinerary.Description;
+
+/**
+ * Reads wishlist items from a CSV or TSV file, one item per row.
+ * Columns are, in order: DESCRIPTION, DURATION, PRIORITY (optional, default 1) and COST (optional, default 0).
+ * A first row starting with the column name {@code description} is treated as a header and skipped.
+ * Fields in a CSV file may be enclosed in double quotes to include commas, with {@code ""} for a literal quote.
+ * Rows are read one at a time, and every invalid row is recorded with its line number.
+ */
+public class ItemTableReader {
+    public static final String MESSAGE_WRONG_COLUMN_COUNT = "Expected 2 to 4 columns but found %1$d.";
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "A quoted field is not closed.";
+    public static final String MESSAGE_DUPLICATE_ROW = "This item is already in the file.";
+    public static final String MESSAGE_EXISTING_ITEM = "This item already exists in the itinerary.";
+    public static final String MESSAGE_ROW_ERROR = "Line %1$d: %2$s";
+
+    private static final String HEADER_FIRST_COLUMN = "description";
+    private static final String DEFAULT_PRIORITY = "1";
+    private static final String DEFAULT_COST = "0";
+    private static final char QUOTE = '"';
+    // written at the start of UTF-8 files by some programs, such as Excel, and not part of the first field
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final Path file;
+    private final char delimiter;
+    private final Predicate<Item> isExistingItem;
+    private final List<Item> items = new ArrayList<>();
+    private final List<String> errors = new ArrayList<>();
+
+    /**
+     * Creates a reader for {@code file}. Files ending in {@code .tsv} are read as tab-separated,
+     * and all other files as comma-separated.
+     *
+     * @param file           The file to read.
+     * @param isExistingItem Tests whether an item already exists where the items will be added.
+     */
+    public ItemTableReader(Path file, Predicate<Item> isExistingItem) {
+        requireNonNull(file);
+        requireNonNull(isExistingItem);
+        this.file = file;
+        this.delimiter = file.toString().toLowerCase().endsWith(".tsv") ? '\t' : ',';
+        this.isExistingItem = isExistingItem;
+    }
+
+    /**
+     * Reads every row of the file.
+     * The valid items are available from {@link #getItems()} and the invalid rows from {@link #getErrors()}.
+     *
+     * @throws IOException If the file cannot be read.
+     */
+    public void read() throws IOException {
+        Set<Description> descriptions = new HashSet<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (lineNumber == 1 && !line.isEmpty() && line.charAt(0) == BYTE_ORDER_MARK) {
+                    line = line.substring(1);
+                }
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    List<String> fields = splitRow(line);
+                    if (lineNumber == 1 && fields.get(0).trim().equalsIgnoreCase(HEADER_FIRST_COLUMN)) {
+                        continue;
+                    }
+                    Item item = parseRow(fields);
+                    if (!descriptions.add(item.getDescription())) {
+                        throw new ParseException(MESSAGE_DUPLICATE_ROW);
+                    }
+                    if (isExistingItem.test(item)) {
+                        throw new ParseException(MESSAGE_EXISTING_ITEM);
+                    }
+                    items.add(item);
+                } catch (ParseException pe) {
+                    errors.add(String.format(MESSAGE_ROW_ERROR, lineNumber, pe.getMessage()));
+                }
+            }
+        }
+    }
+
+    public List<Item> getItems() {
+        return items;
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    private Item parseRow(List<String> fields) throws ParseException {
+        if (fields.size() < 2 || fields.size() > 4) {
+            throw new ParseException(String.format(MESSAGE_WRONG_COLUMN_COUNT, fields.size()));
+        }
+        Description description = ParserUtil.parseDescription(fields.get(0));
+        Duration duration = ParserUtil.parseDuration(fields.get(1));
+        Priority priority = ParserUtil.parsePriority(getFieldOrDefault(fields, 2, DEFAULT_PRIORITY));
+        Cost cost = ParserUtil.parseCost(getFieldOrDefault(fields, 3, DEFAULT_COST));
+        return new Item(description, priority, cost, duration);
+    }
+
+    private static String getFieldOrDefault(List<String> fields, int column, String defaultValue) {
+        if (column >= fields.size() || fields.get(column).isBlank()) {
+            return defaultValue;
+        }
+        return fields.get(column);
+    }
+
+    /**
+     * Splits a row into its fields, removing the quotes around quoted fields.
+     */
+    private List<String> splitRow(String line) throws ParseException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (isQuoted) {
+                if (c != QUOTE) {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                    field.append(QUOTE);
+                    i++;
+                } else {
+                    isQuoted = false;
+                }
+            } else if (c == QUOTE && field.toString().isBlank()) {
+                field.setLength(0);
+                isQuoted = true;
+            } else if (c == delimiter) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (isQuoted) {
+            throw new ParseException(MESSAGE_UNTERMINATED_QUOTE);
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -15,6 +15,7 @@ import seedu.waddle.logic.parser.exceptions.ParseException;
 import seedu.waddle.model.Model;
 import seedu.waddle.model.ReadOnlyWaddle;
 import seedu.waddle.model.itinerary.Itinerary;
+import seedu.waddle.model.itinerary.exceptions.ItineraryLoadException;
 import seedu.waddle.storage.Storage;
 
 /**
@@ -22,11 +23,14 @@ import seedu.waddle.storage.Storage;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    private static final long UNSAVED = -1;
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final WaddleParser waddleParser;
+    // version of the Waddle data when it was last saved, so that unchanged data is not saved again
+    private long savedVersion = UNSAVED;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -43,13 +47,22 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = waddleParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        try {
+            commandResult = command.execute(model);
+        } catch (ItineraryLoadException e) {
+            throw new CommandException(e.getMessage(), e);
+        }
 
+        long version = model.getWaddle().getVersion();
+        if (version == savedVersion) {
+            return commandResult;
+        }
         try {
             storage.saveWaddle(model.getWaddle());
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
+        savedVersion = version;
 
         return commandResult;
     }
@@ -0,0 +1,190 @@
+package seedu.waddle.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.waddle.commons.core.LogsCenter;
+
+/**
+ * Runs pdf exports on a background thread, one at a time, so that commands can still be entered meanwhile.
+ * The progress and result of each export are reported to the listener, on the background thread.
+ */
+public class PdfExportManager {
+    public static final String MESSAGE_EXPORT_CANCELLED = "Cancelled the pdf export.";
+    public static final String MESSAGE_EXPORT_ERROR = "The pdf export stopped because of an unexpected error.";
+
+    private static final Logger logger = LogsCenter.getLogger(PdfExportManager.class);
+    private static final ExportListener NO_LISTENER = new ExportListener() {
+        @Override
+        public void exportProgressed(String progress) {
+        }
+
+        @Override
+        public void exportFinished(String result) {
+        }
+    };
+    // created up front, as exports report back from background threads
+    private static final PdfExportManager instance = new PdfExportManager();
+
+    private final ExecutorService exporter;
+    private ExportListener listener = NO_LISTENER;
+    private Path exportFolder;
+    private Future<?> currentExport;
+    private boolean isExporting = false;
+    // identifies the latest export started
+    private long exportCount = 0;
+    // identifies the latest export that has begun running
+    private long runningExportId = 0;
+    // identifies the latest export cancelled before it began running, which will never run
+    private long skippedExportId = 0;
+
+    /**
+     * An export to run in the background.
+     */
+    @FunctionalInterface
+    public interface Export {
+        /**
+         * Runs the export, stopping early if the thread running it is interrupted.
+         *
+         * @param progressReporter Receives a description of the progress of the export.
+         * @return A description of the result of the export for the user.
+         * @throws InterruptedIOException If the export was cancelled.
+         */
+        String run(Consumer<String> progressReporter) throws InterruptedIOException;
+    }
+
+    /**
+     * Receives the progress and results of exports.
+     */
+    public interface ExportListener {
+        void exportProgressed(String progress);
+
+        void exportFinished(String result);
+    }
+
+    private PdfExportManager() {
+        this.exporter = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "waddle-pdf-export");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public static PdfExportManager getInstance() {
+        return PdfExportManager.instance;
+    }
+
+    public synchronized void setListener(ExportListener listener) {
+        requireNonNull(listener);
+        this.listener = listener;
+    }
+
+    private synchronized ExportListener getListener() {
+        return this.listener;
+    }
+
+    /**
+     * Returns the folder that pdfs are exported to, which is the Waddle folder in the user's documents by default.
+     */
+    public synchronized Path getExportFolder() {
+        if (this.exportFolder == null) {
+            this.exportFolder = PdfExporter.getDefaultExportFolder();
+        }
+        return this.exportFolder;
+    }
+
+    public synchronized void setExportFolder(Path exportFolder) {
+        requireNonNull(exportFolder);
+        this.exportFolder = exportFolder;
+    }
+
+    /**
+     * Returns true if an export has been started and has not finished or been cancelled.
+     */
+    public synchronized boolean isExporting() {
+        return this.isExporting;
+    }
+
+    /**
+     * Starts {@code export} in the background.
+     *
+     * @throws IllegalStateException If another export is still running.
+     */
+    public synchronized void start(Export export) {
+        requireNonNull(export);
+        if (isExporting()) {
+            throw new IllegalStateException("Another pdf export is in progress");
+        }
+        long exportId = ++this.exportCount;
+        this.isExporting = true;
+        this.currentExport = this.exporter.submit(() -> run(export, exportId));
+    }
+
+    private void run(Export export, long exportId) {
+        if (!begin(exportId)) {
+            // the export was cancelled just before it began, and the cancellation has been reported already
+            return;
+        }
+        String result;
+        try {
+            result = export.run(progress -> getListener().exportProgressed(progress));
+        } catch (InterruptedIOException e) {
+            result = MESSAGE_EXPORT_CANCELLED;
+        } catch (RuntimeException e) {
+            logger.warning("Pdf export failed: " + e);
+            result = MESSAGE_EXPORT_ERROR;
+        }
+        logger.info("Pdf export finished: " + result);
+        finish(exportId);
+        getListener().exportFinished(result);
+    }
+
+    private synchronized boolean begin(long exportId) {
+        if (exportId <= this.skippedExportId) {
+            return false;
+        }
+        this.runningExportId = exportId;
+        return true;
+    }
+
+    private synchronized void finish(long exportId) {
+        // a cancelled export can finish after the next export has started
+        if (exportId == this.exportCount) {
+            this.isExporting = false;
+        }
+    }
+
+    /**
+     * Cancels the running export, if any.
+     * If the export has begun running, the listener is told once it has stopped. If it is still waiting for a
+     * cancelled export to stop, it never runs, so the listener is told straight away.
+     *
+     * @return true if there was an export to cancel.
+     */
+    public boolean cancel() {
+        boolean isSkipped;
+        synchronized (this) {
+            if (!isExporting()) {
+                return false;
+            }
+            this.currentExport.cancel(true);
+            this.isExporting = false;
+            isSkipped = this.runningExportId != this.exportCount;
+            if (isSkipped) {
+                this.skippedExportId = this.exportCount;
+            }
+        }
+        if (isSkipped) {
+            logger.info("Pdf export finished: " + MESSAGE_EXPORT_CANCELLED);
+            getListener().exportFinished(MESSAGE_EXPORT_CANCELLED);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.waddle.logic;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import javax.swing.filechooser.FileSystemView;
+
+import org.apache.commons.lang3.SystemUtils;
+
+/**
+ * Exports an itinerary into a pdf file in an export folder, which is the Waddle folder by default.
+ */
+public interface PdfExporter {
+    String MESSAGE_CANCELLED = "Pdf export was cancelled";
+
+    /**
+     * Receives the progress of an export.
+     */
+    @FunctionalInterface
+    interface ProgressListener {
+        /**
+         * Called after all the pages of another day have been added to the pdf.
+         *
+         * @param daysDone  Number of days that are done.
+         * @param totalDays Number of days in the itinerary.
+         */
+        void dayFilled(int daysDone, int totalDays);
+    }
+
+    /**
+     * Export an itinerary into PDF.
+     *
+     * @throws IOException When export fails.
+     */
+    default void fillItinerary() throws IOException {
+        fillItinerary((daysDone, totalDays) -> { });
+    }
+
+    /**
+     * Export an itinerary into PDF, reporting each day that is done to {@code listener}.
+     * The export can be cancelled by interrupting the thread running it, in which case no file is saved.
+     *
+     * @param listener Listener for the progress of the export.
+     * @throws InterruptedIOException When the export is cancelled.
+     * @throws IOException When export fails.
+     */
+    void fillItinerary(ProgressListener listener) throws IOException;
+
+    /**
+     * Returns the Waddle folder in the user's documents, which pdfs are exported to by default.
+     */
+    static Path getDefaultExportFolder() {
+        String defaultPath = FileSystemView.getFileSystemView().getDefaultDirectory().getPath();
+        if (SystemUtils.IS_OS_MAC) {
+            return Paths.get(defaultPath, "Documents", "Waddle");
+        }
+        return Paths.get(defaultPath, "Waddle");
+    }
+
+    /**
+     * Returns the file in {@code exportFolder} to export the itinerary named {@code itineraryName} to, creating
+     * the folder if needed.
+     *
+     * @throws IOException When the folder cannot be created.
+     */
+    static File getExportFile(Path exportFolder, String itineraryName) throws IOException {
+        Files.createDirectories(exportFolder);
+        return exportFolder.resolve(itineraryName + ".pdf").toFile();
+    }
+
+    /**
+     * Stops the export running on this thread if it has been cancelled.
+     *
+     * @throws InterruptedIOException If the thread has been interrupted.
+     */
+    static void checkNotCancelled() throws InterruptedIOException {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new InterruptedIOException(MESSAGE_CANCELLED);
+        }
+    }
+}
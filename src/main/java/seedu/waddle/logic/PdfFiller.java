@@ -1,15 +1,28 @@
 package seedu.waddle.logic;
 
-import java.io.File;
+import static java.util.Objects.requireNonNull;
+import static seedu.waddle.commons.util.AppUtil.checkArgument;
+
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
 import java.util.List;
-import javax.swing.filechooser.FileSystemView;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
-import org.apache.commons.lang3.SystemUtils;
+import org.apache.pdfbox.multipdf.PDFMergerUtility;
 import org.apache.pdfbox.pdmodel.PDDocument;
-import org.apache.pdfbox.pdmodel.PDPage;
 import org.apache.pdfbox.pdmodel.interactive.form.PDAcroForm;
 import org.apache.pdfbox.pdmodel.interactive.form.PDField;
 
@@ -21,14 +34,21 @@ import seedu.waddle.model.itinerary.Itinerary;
 
 /**
  * Class to fill pdf acroform with itinerary details.
+ * The itinerary is read when the filler is created, so the export can run on another thread while it changes.
  */
-public class PdfFiller {
+public class PdfFiller implements PdfExporter {
     public static final int MAX_DISPLAY = 15;
-    private final Itinerary itinerary;
-    private final String pdfTemplate;
-    private final List<PDDocument> pdfList;
-    private final PDDocument finalPdf;
+    private static final int PAGES_AHEAD_PER_WORKER = 2;
+    // templates are read once and kept in memory, as every page of every export starts from one
+    private static final Map<String, byte[]> templates = new ConcurrentHashMap<>();
 
+    private final String itineraryName;
+    private final List<List<PdfFieldInfo>> pages;
+    // the number of pages up to and including each day
+    private final int[] pagesThroughDay;
+    private final byte[] template;
+    private final int parallelism;
+    private final Path exportFolder;
 
     /**
      * Constructor for a PdfFiller
@@ -38,10 +58,76 @@ public class PdfFiller {
      * @throws IOException When fail to export itinerary information.
      */
     public PdfFiller(Itinerary itinerary, String pdfTemplate) throws IOException {
-        this.itinerary = itinerary;
-        this.pdfTemplate = pdfTemplate;
-        this.pdfList = new ArrayList<>();
-        this.finalPdf = new PDDocument();
+        this(itinerary, pdfTemplate, 0);
+    }
+
+    /**
+     * Constructor for a PdfFiller that fills up to {@code parallelism} pages at the same time.
+     *
+     * @param itinerary   Itinerary to export.
+     * @param pdfTemplate Default template for export.
+     * @param parallelism Number of pages to fill at the same time, or 0 for one per available processor.
+     * @throws IOException When fail to export itinerary information.
+     */
+    public PdfFiller(Itinerary itinerary, String pdfTemplate, int parallelism) throws IOException {
+        this(itinerary, pdfTemplate, parallelism, PdfExporter.getDefaultExportFolder());
+    }
+
+    /**
+     * Constructor for a PdfFiller that fills up to {@code parallelism} pages at the same time, and saves the pdf
+     * in {@code exportFolder}.
+     *
+     * @param itinerary    Itinerary to export.
+     * @param pdfTemplate  Default template for export.
+     * @param parallelism  Number of pages to fill at the same time, or 0 for one per available processor.
+     * @param exportFolder Folder to save the pdf in.
+     * @throws IOException When fail to export itinerary information.
+     */
+    public PdfFiller(Itinerary itinerary, String pdfTemplate, int parallelism, Path exportFolder)
+            throws IOException {
+        checkArgument(parallelism >= 0);
+        requireNonNull(exportFolder);
+        this.itineraryName = itinerary.getDescriptionString(Text.INDENT_NONE);
+        this.pages = new ArrayList<>();
+        List<Day> days = itinerary.getDays();
+        this.pagesThroughDay = new int[days.size()];
+        for (int i = 0; i < days.size(); i++) {
+            fillDay(days.get(i), this.pages);
+            this.pagesThroughDay[i] = this.pages.size();
+        }
+        this.template = getTemplate(pdfTemplate);
+        this.parallelism = getThreadCount(parallelism);
+        this.exportFolder = exportFolder;
+    }
+
+    /**
+     * Returns the number of threads to use for a parallelism of {@code parallelism}.
+     *
+     * @param parallelism Number of threads, or 0 for one per available processor.
+     */
+    public static int getThreadCount(int parallelism) {
+        checkArgument(parallelism >= 0);
+        return parallelism == 0 ? Runtime.getRuntime().availableProcessors() : parallelism;
+    }
+
+    /**
+     * Returns the contents of the template resource at {@code pdfTemplate}, reading it only the first time.
+     *
+     * @throws IOException When the template cannot be read.
+     */
+    static byte[] getTemplate(String pdfTemplate) throws IOException {
+        byte[] template = templates.get(pdfTemplate);
+        if (template != null) {
+            return template;
+        }
+        try (InputStream exportTemplate = PdfFiller.class.getResourceAsStream(pdfTemplate)) {
+            if (exportTemplate == null) {
+                throw new FileNotFoundException("Pdf template " + pdfTemplate + " not found");
+            }
+            template = exportTemplate.readAllBytes();
+        }
+        templates.putIfAbsent(pdfTemplate, template);
+        return template;
     }
 
     private void fillField(PdfFieldInfo info, PDAcroForm form, List<PDField> fieldList) throws IOException {
@@ -50,33 +136,47 @@ public class PdfFiller {
         fieldList.add(field);
     }
 
-    private void fillForm(Day day, List<PdfFieldInfo> infoList) throws IOException {
+    /**
+     * Fills a page from the template with {@code infoList}.
+     * Each page has its own document, so pages can be filled on different threads.
+     */
+    private PDDocument fillForm(List<PdfFieldInfo> infoList) throws IOException {
+        PDDocument pdf = PDDocument.load(this.template);
+        try {
+            PDAcroForm form = pdf.getDocumentCatalog().getAcroForm();
+            List<PDField> fieldList = new ArrayList<>();
+            form.setXFA(null);
 
-        InputStream exportTemplate = getClass().getResourceAsStream(pdfTemplate);
-        PDDocument pdf = PDDocument.load(exportTemplate);
-        PDAcroForm form = pdf.getDocumentCatalog().getAcroForm();
-        List<PDField> fieldList = new ArrayList<>();
-        ArrayList<PdfFieldInfo> infoToFill = new ArrayList<>(infoList);
-        form.setXFA(null);
-        infoToFill.add(new PdfFieldInfo("itinerary_name", this.itinerary.getDescriptionString(Text.INDENT_NONE)));
-        infoToFill.add(new PdfFieldInfo("day", "Day " + (day.getDayNumber() + 1)));
+            for (PdfFieldInfo info : infoList) {
+                fillField(info, form, fieldList);
+            }
 
-        for (PdfFieldInfo info : infoToFill) {
-            fillField(info, form, fieldList);
+            form.flatten(fieldList, true);
+            pdf.getDocumentCatalog().setAcroForm(form);
+            return pdf;
+        } catch (IOException | RuntimeException e) {
+            pdf.close();
+            throw e;
         }
+    }
 
-        form.flatten(fieldList, true);
-        pdf.getDocumentCatalog().setAcroForm(form);
-        this.pdfList.add(pdf);
+    /**
+     * Adds the fields of a page of {@code day} to {@code pages}, along with the fields common to every page.
+     */
+    private void addPage(Day day, List<PdfFieldInfo> infoList, List<List<PdfFieldInfo>> pages) {
+        ArrayList<PdfFieldInfo> infoToFill = new ArrayList<>(infoList);
+        infoToFill.add(new PdfFieldInfo("itinerary_name", this.itineraryName));
+        infoToFill.add(new PdfFieldInfo("day", "Day " + (day.getDayNumber() + 1)));
+        pages.add(infoToFill);
     }
 
     /**
-     * Export a day into PDF
+     * Collects the fields of the pages that export a day into PDF.
      *
-     * @param day The day containing items to export.
-     * @throws IOException When export fails.
+     * @param day   The day containing items to export.
+     * @param pages The list to add the fields of each page to.
      */
-    private void fillDay(Day day) throws IOException {
+    private void fillDay(Day day, List<List<PdfFieldInfo>> pages) {
         UniqueItemList itemList = day.getItemList();
         int itemListSize = itemList.getSize();
         int numOfPages = (int) Math.ceil((double) itemListSize / MAX_DISPLAY);
@@ -88,7 +188,7 @@ public class PdfFiller {
                 fieldList.add(time);
                 fieldList.add(activity);
             }
-            fillForm(day, fieldList);
+            addPage(day, fieldList, pages);
         }
         for (int i = 0; i < numOfPages; i++) {
             List<PdfFieldInfo> fieldList = new ArrayList<>();
@@ -108,43 +208,144 @@ public class PdfFiller {
                     fieldList.add(activity);
                 }
             }
-            fillForm(day, fieldList);
+            addPage(day, fieldList, pages);
+        }
+    }
+
+    @Override
+    public void fillItinerary(ProgressListener listener) throws IOException {
+        requireNonNull(listener);
+        try (PDDocument finalPdf = fill(listener)) {
+            PdfExporter.checkNotCancelled();
+            finalPdf.save(PdfExporter.getExportFile(this.exportFolder, this.itineraryName));
         }
     }
 
     /**
-     * Export an itinerary into PDF.
+     * Fills every page of the itinerary and appends them to a new pdf in day and page order.
      *
-     * @throws IOException When export fails.
+     * @param listener Listener for the progress of the export.
+     * @return The pdf, which the caller has to close.
+     * @throws IOException When a page cannot be filled, or the export is cancelled.
      */
-    public void fillItinerary() throws IOException {
-        for (Day day : this.itinerary.getDays()) {
-            fillDay(day);
+    PDDocument fill(ProgressListener listener) throws IOException {
+        // the final pdf is only opened once the export runs, so an export that never runs leaves nothing open
+        PDDocument finalPdf = new PDDocument();
+        try {
+            fillPages(finalPdf, listener);
+            return finalPdf;
+        } catch (IOException | RuntimeException e) {
+            finalPdf.close();
+            throw e;
         }
-        for (PDDocument pdf : this.pdfList) {
-            PDPage page = pdf.getPage(0);
-            this.finalPdf.addPage(page);
+    }
+
+    /**
+     * Fills the pages on a pool of worker threads and appends them to the final pdf in order.
+     * Only a few pages are filled ahead of the one being appended, so that few documents are open at a time.
+     * If the export stops early, the pages still to be filled are abandoned and the filled pages are closed.
+     */
+    private void fillPages(PDDocument finalPdf, ProgressListener listener) throws IOException {
+        ExecutorService workers = Executors.newFixedThreadPool(Math.min(this.parallelism, Math.max(pages.size(), 1)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "waddle-pdf-filler");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        PDFMergerUtility merger = new PDFMergerUtility();
+        OpenPages openPages = new OpenPages();
+        Deque<Future<PDDocument>> filledPages = new ArrayDeque<>();
+        int nextPage = 0;
+        int pagesAppended = 0;
+        int daysDone = 0;
+        try {
+            while (nextPage < pages.size() || !filledPages.isEmpty()) {
+                while (nextPage < pages.size() && filledPages.size() < this.parallelism * PAGES_AHEAD_PER_WORKER) {
+                    List<PdfFieldInfo> page = pages.get(nextPage++);
+                    filledPages.add(workers.submit(() -> openPages.add(fillForm(page))));
+                }
+                PdfExporter.checkNotCancelled();
+                try (PDDocument pdf = openPages.remove(getFilledPage(filledPages.remove()))) {
+                    // the page is copied, so its document can be closed straight away
+                    merger.appendDocument(finalPdf, pdf);
+                }
+                pagesAppended++;
+                while (daysDone < pagesThroughDay.length && pagesThroughDay[daysDone] == pagesAppended) {
+                    daysDone++;
+                    listener.dayFilled(daysDone, pagesThroughDay.length);
+                }
+            }
+        } finally {
+            // pages that are not appended are not needed, so their fills are stopped without waiting for them
+            workers.shutdownNow();
+            for (Future<PDDocument> filledPage : filledPages) {
+                filledPage.cancel(true);
+            }
+            openPages.closeAll();
         }
+    }
 
-        // create a waddle directory and get the path
-        String defaultPath = FileSystemView.getFileSystemView().getDefaultDirectory().getPath();
-        File waddleFolder;
-        if (SystemUtils.IS_OS_MAC) {
-            waddleFolder = new File(defaultPath + "/Documents/Waddle");
+    /**
+     * Keeps track of the filled pages that have not been appended yet, so that they can be closed without waiting
+     * if the export stops early.
+     */
+    private static class OpenPages {
+        private final Set<PDDocument> pages = new HashSet<>();
+        private boolean isClosed = false;
 
-        } else {
-            waddleFolder = new File(defaultPath + "/Waddle");
+        /**
+         * Keeps track of {@code page}, or closes it straight away if the export has stopped.
+         *
+         * @throws InterruptedIOException If the export has stopped.
+         */
+        synchronized PDDocument add(PDDocument page) throws IOException {
+            if (this.isClosed) {
+                page.close();
+                throw new InterruptedIOException(MESSAGE_CANCELLED);
+            }
+            this.pages.add(page);
+            return page;
         }
-        if (!waddleFolder.exists()) {
-            waddleFolder.mkdirs();
+
+        /**
+         * Stops keeping track of {@code page}, which the caller now has to close.
+         */
+        synchronized PDDocument remove(PDDocument page) {
+            this.pages.remove(page);
+            return page;
         }
 
-        finalPdf.save(waddleFolder + "/" + this.itinerary.getDescriptionString(Text.INDENT_NONE) + ".pdf");
-        finalPdf.close();
+        /**
+         * Closes every page kept track of, and every page filled from now on.
+         */
+        synchronized void closeAll() {
+            this.isClosed = true;
+            for (PDDocument page : this.pages) {
+                try {
+                    page.close();
+                } catch (IOException e) {
+                    // the export has already stopped
+                }
+            }
+            this.pages.clear();
+        }
+    }
 
-        // only can close when all operations are done
-        for (PDDocument pdf : this.pdfList) {
-            pdf.close();
+    private static PDDocument getFilledPage(Future<PDDocument> filledPage) throws IOException {
+        try {
+            return filledPage.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(MESSAGE_CANCELLED);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
         }
     }
 }
@@ -0,0 +1,240 @@
+package seedu.waddle.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.awt.Color;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDFont;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+
+import seedu.waddle.commons.core.Text;
+import seedu.waddle.model.item.Day;
+import seedu.waddle.model.item.Item;
+import seedu.waddle.model.item.UniqueItemList;
+import seedu.waddle.model.itinerary.Itinerary;
+
+/**
+ * Class to export an itinerary into PDF by drawing its details straight onto the pages, without a template.
+ * Each page holds as many activities as fit on it, and long descriptions are wrapped instead of cut off.
+ * The itinerary is read when the renderer is created, so the export can run on another thread while it changes.
+ */
+public class PdfRenderer implements PdfExporter {
+    // the standard fonts are available in every pdf reader, so they are not embedded in the file
+    private static final PDFont FONT = PDType1Font.HELVETICA;
+    private static final PDFont BOLD_FONT = PDType1Font.HELVETICA_BOLD;
+    private static final float TITLE_FONT_SIZE = 20;
+    private static final float DAY_FONT_SIZE = 14;
+    private static final float TEXT_FONT_SIZE = 11;
+    private static final float LINE_SPACING = 1.3f;
+    private static final float MARGIN = 50;
+    private static final float HEADING_GAP = 12;
+    private static final float ROW_PADDING = 4;
+    private static final float TIME_COLUMN_WIDTH = 130;
+    private static final Color ROW_LINE_COLOR = Color.LIGHT_GRAY;
+
+    private final String itineraryName;
+    private final List<String> dayNames;
+    // the time and activity of each item of each day
+    private final List<List<String[]>> dayRows;
+    private final Path exportFolder;
+
+    /**
+     * Constructor for a PdfRenderer
+     *
+     * @param itinerary Itinerary to export.
+     */
+    public PdfRenderer(Itinerary itinerary) {
+        this(itinerary, PdfExporter.getDefaultExportFolder());
+    }
+
+    /**
+     * Constructor for a PdfRenderer that saves the pdf in {@code exportFolder}.
+     *
+     * @param itinerary    Itinerary to export.
+     * @param exportFolder Folder to save the pdf in.
+     */
+    public PdfRenderer(Itinerary itinerary, Path exportFolder) {
+        requireNonNull(itinerary);
+        requireNonNull(exportFolder);
+        this.exportFolder = exportFolder;
+        this.itineraryName = itinerary.getDescriptionString(Text.INDENT_NONE);
+        this.dayNames = new ArrayList<>();
+        this.dayRows = new ArrayList<>();
+        for (Day day : itinerary.getDays()) {
+            this.dayNames.add("Day " + (day.getDayNumber() + 1));
+            UniqueItemList itemList = day.getItemList();
+            List<String[]> rows = new ArrayList<>();
+            for (int i = 0; i < itemList.getSize(); i++) {
+                Item item = itemList.get(i);
+                String time = item.getTimeString(Text.INDENT_NONE).replace("Time: ", "");
+                rows.add(new String[] {time, item.getDescription().toString()});
+            }
+            this.dayRows.add(rows);
+        }
+    }
+
+    @Override
+    public void fillItinerary(ProgressListener listener) throws IOException {
+        requireNonNull(listener);
+        try (PDDocument pdf = render(listener)) {
+            PdfExporter.checkNotCancelled();
+            pdf.save(PdfExporter.getExportFile(this.exportFolder, this.itineraryName));
+        }
+    }
+
+    /**
+     * Draws every day of the itinerary onto the pages of a new pdf, starting a new page for each day.
+     *
+     * @param listener Listener for the progress of the export.
+     * @return The pdf, which the caller has to close.
+     * @throws IOException When the pdf cannot be drawn, or the export is cancelled.
+     */
+    PDDocument render(ProgressListener listener) throws IOException {
+        PDDocument pdf = new PDDocument();
+        try {
+            for (int i = 0; i < dayRows.size(); i++) {
+                renderDay(pdf, dayNames.get(i), dayRows.get(i));
+                listener.dayFilled(i + 1, dayRows.size());
+            }
+            return pdf;
+        } catch (IOException | RuntimeException e) {
+            pdf.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Draws the rows of a day onto as many pages as they need.
+     */
+    private void renderDay(PDDocument pdf, String dayName, List<String[]> rows) throws IOException {
+        int nextRow = 0;
+        do {
+            PdfExporter.checkNotCancelled();
+            PDPage page = new PDPage(PDRectangle.A4);
+            pdf.addPage(page);
+            try (PDPageContentStream content = new PDPageContentStream(pdf, page)) {
+                PDRectangle pageSize = page.getMediaBox();
+                float y = drawHeadings(content, pageSize, nextRow == 0 ? dayName : dayName + " (continued)");
+                float pageWidth = pageSize.getWidth();
+                // every page has at least one row, so that a row taller than a page still makes progress
+                boolean isPageEmpty = true;
+                while (nextRow < rows.size()) {
+                    String[] row = rows.get(nextRow);
+                    List<String> activityLines = wrap(row[1], FONT, TEXT_FONT_SIZE,
+                            pageWidth - 2 * MARGIN - TIME_COLUMN_WIDTH);
+                    float rowHeight = activityLines.size() * TEXT_FONT_SIZE * LINE_SPACING + 2 * ROW_PADDING;
+                    if (!isPageEmpty && y - rowHeight < MARGIN) {
+                        break;
+                    }
+                    drawRow(content, y, row[0], activityLines);
+                    y -= rowHeight;
+                    drawRule(content, y, pageWidth);
+                    isPageEmpty = false;
+                    nextRow++;
+                }
+            }
+        } while (nextRow < rows.size());
+    }
+
+    /**
+     * Draws the itinerary name, the day and the column headings at the top of a page.
+     *
+     * @return The height below the headings.
+     */
+    private float drawHeadings(PDPageContentStream content, PDRectangle pageSize, String dayName)
+            throws IOException {
+        float y = pageSize.getHeight() - MARGIN;
+        for (String line : wrap(this.itineraryName, BOLD_FONT, TITLE_FONT_SIZE, pageSize.getWidth() - 2 * MARGIN)) {
+            y -= TITLE_FONT_SIZE * LINE_SPACING;
+            drawText(content, BOLD_FONT, TITLE_FONT_SIZE, MARGIN, y, line);
+        }
+        y -= HEADING_GAP + DAY_FONT_SIZE;
+        drawText(content, BOLD_FONT, DAY_FONT_SIZE, MARGIN, y, dayName);
+        y -= HEADING_GAP;
+        float textY = y - ROW_PADDING - TEXT_FONT_SIZE;
+        drawText(content, BOLD_FONT, TEXT_FONT_SIZE, MARGIN, textY, "Time");
+        drawText(content, BOLD_FONT, TEXT_FONT_SIZE, MARGIN + TIME_COLUMN_WIDTH, textY, "Activity");
+        y -= TEXT_FONT_SIZE * LINE_SPACING + 2 * ROW_PADDING;
+        content.setLineWidth(1);
+        content.moveTo(MARGIN, y);
+        content.lineTo(pageSize.getWidth() - MARGIN, y);
+        content.stroke();
+        return y;
+    }
+
+    private static void drawRow(PDPageContentStream content, float top, String time, List<String> activityLines)
+            throws IOException {
+        float y = top - ROW_PADDING - TEXT_FONT_SIZE;
+        drawText(content, FONT, TEXT_FONT_SIZE, MARGIN, y, time);
+        for (String line : activityLines) {
+            drawText(content, FONT, TEXT_FONT_SIZE, MARGIN + TIME_COLUMN_WIDTH, y, line);
+            y -= TEXT_FONT_SIZE * LINE_SPACING;
+        }
+    }
+
+    private static void drawRule(PDPageContentStream content, float y, float pageWidth) throws IOException {
+        content.setLineWidth(0.5f);
+        content.setStrokingColor(ROW_LINE_COLOR);
+        content.moveTo(MARGIN, y);
+        content.lineTo(pageWidth - MARGIN, y);
+        content.stroke();
+        content.setStrokingColor(Color.BLACK);
+    }
+
+    private static void drawText(PDPageContentStream content, PDFont font, float fontSize, float x, float y,
+            String text) throws IOException {
+        content.beginText();
+        content.setFont(font, fontSize);
+        content.newLineAtOffset(x, y);
+        content.showText(text);
+        content.endText();
+    }
+
+    /**
+     * Splits {@code text} into lines no wider than {@code width}, breaking lines between words where possible.
+     * Whitespace, which the fonts cannot show, is replaced by single spaces.
+     */
+    static List<String> wrap(String text, PDFont font, float fontSize, float width) throws IOException {
+        List<String> lines = new ArrayList<>();
+        StringBuilder line = new StringBuilder();
+        for (String word : text.trim().split("\\s+")) {
+            String extendedLine = line.length() == 0 ? word : line + " " + word;
+            if (getWidth(extendedLine, font, fontSize) <= width) {
+                line.setLength(0);
+                line.append(extendedLine);
+                continue;
+            }
+            if (line.length() > 0) {
+                lines.add(line.toString());
+                line.setLength(0);
+            }
+            // a word wider than a line is broken up
+            while (word.length() > 1 && getWidth(word, font, fontSize) > width) {
+                int end = 1;
+                while (getWidth(word.substring(0, end + 1), font, fontSize) <= width) {
+                    end++;
+                }
+                lines.add(word.substring(0, end));
+                word = word.substring(end);
+            }
+            line.append(word);
+        }
+        if (line.length() > 0 || lines.isEmpty()) {
+            lines.add(line.toString());
+        }
+        return lines;
+    }
+
+    private static float getWidth(String text, PDFont font, float fontSize) throws IOException {
+        // font widths are in thousandths of the font size
+        return font.getStringWidth(text) / 1000 * fontSize;
+    }
+}
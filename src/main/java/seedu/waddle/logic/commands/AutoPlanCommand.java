@@ -0,0 +1,57 @@
+package seedu.waddle.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.waddle.logic.StageManager;
+import seedu.waddle.model.Model;
+import seedu.waddle.model.item.Item;
+import seedu.waddle.model.itinerary.AutoPlanner;
+import seedu.waddle.model.itinerary.Itinerary;
+
+/**
+ * Schedules the items in the itinerary Wishlist into vacant timeslots automatically.
+ */
+public class AutoPlanCommand extends Command {
+
+    public static final String COMMAND_WORD = "autoplan";
+
+    public static final String MESSAGE_SUCCESS = "Scheduled %1$d of %2$d items in the wishlist.";
+    public static final String MESSAGE_OVER_BUDGET_ITEMS = "Not scheduled as they exceed the remaining budget:";
+    public static final String MESSAGE_UNFIT_ITEMS = "Not scheduled as there is no vacant timeslot long enough:";
+    public static final String MESSAGE_TIMED_OUT_ITEMS = "Not scheduled as the time limit was reached:";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Itinerary itinerary = StageManager.getInstance().getSelectedItinerary();
+        int wishlistSize = itinerary.getUnscheduledSize();
+
+        AutoPlanner planner = new AutoPlanner(itinerary, AutoPlanner.DEFAULT_TIME_LIMIT_MILLIS);
+        planner.plan();
+
+        StringBuilder feedback = new StringBuilder(
+                String.format(MESSAGE_SUCCESS, planner.getPlannedItems().size(), wishlistSize));
+        appendItems(feedback, MESSAGE_OVER_BUDGET_ITEMS, planner.getOverBudgetItems());
+        appendItems(feedback, MESSAGE_UNFIT_ITEMS, planner.getUnfitItems());
+        appendItems(feedback, MESSAGE_TIMED_OUT_ITEMS, planner.getTimedOutItems());
+        return new CommandResult(feedback.toString());
+    }
+
+    private static void appendItems(StringBuilder feedback, String heading, List<Item> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+        feedback.append("\n").append(heading);
+        for (Item item : items) {
+            feedback.append("\n    ").append(item.getDescription());
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AutoPlanCommand); // instanceof handles nulls
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.waddle.logic.commands;
+
+import seedu.waddle.logic.PdfExportManager;
+import seedu.waddle.logic.commands.exceptions.CommandException;
+import seedu.waddle.model.Model;
+
+/**
+ * Cancels the pdf export running in the background.
+ */
+public class CancelCommand extends Command {
+
+    public static final String COMMAND_WORD = "cancel";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": cancels the pdf export in progress\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_CANCEL_SUCCESS = "Cancelling the pdf export...";
+
+    public static final String MESSAGE_NOTHING_TO_CANCEL = "There is no pdf export to cancel.";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        if (!PdfExportManager.getInstance().cancel()) {
+            return new CommandResult(MESSAGE_NOTHING_TO_CANCEL);
+        }
+        return new CommandResult(MESSAGE_CANCEL_SUCCESS);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        // short circuit if same object
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        return other instanceof CancelCommand;
+
+    }
+}
@@ -86,7 +86,6 @@ public class EditCommand extends Command {
                 updatedPeople, updatedBudget);
         editedItinerary.setUnscheduledItems(itineraryToEdit.getUnscheduledItemList());
         editedItinerary.setDays(itineraryToEdit.getDays());
-        editedItinerary.calculateSpending();
         return editedItinerary;
     }
 
@@ -102,7 +101,7 @@ public class EditCommand extends Command {
         Itinerary itineraryToEdit = lastShownList.get(index.getZeroBased());
         Itinerary editedItinerary = createEditedItinerary(itineraryToEdit, editItineraryDescriptor);
 
-        if (editedItinerary.calculateSpending() > editedItinerary.getBudget().getValue()) {
+        if (editedItinerary.getBudget().getSpending() > editedItinerary.getBudget().getCents()) {
             throw new CommandException(Messages.MESSAGE_ITINERARY_OVER_BUDGET);
         }
 
@@ -113,11 +113,11 @@ public class EditItemCommand extends Command {
             Item editedItem = createEditedItem(itemToEdit, editItemDescriptor);
             //if new cos causes over budget throw command exception
             if (itinerary.getBudget().calculateLeftOverBudget()
-                    + itemToEdit.getCost().getValue() - editedItem.getCost().getValue() < 0) {
+                    + itemToEdit.getCost().getCents() - editedItem.getCost().getCents() < 0) {
                 throw new CommandException(Messages.MESSAGE_OVER_BUDGET);
             }
 
-            if (!itemToEdit.isSameItem(editedItem) && day.hasItem(editedItem)) {
+            if (!itemToEdit.isSameItem(editedItem) && itinerary.hasItem(editedItem)) {
                 throw new CommandException(MESSAGE_DUPLICATE_ITEM);
             }
             itinerary.setItem(itemToEdit, editedItem, multiIndex);
@@ -1,9 +1,11 @@
 package seedu.waddle.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.waddle.logic.parser.CliSyntax.PREFIX_ITEM_DURATION;
 
 import seedu.waddle.logic.StageManager;
 import seedu.waddle.model.Model;
+import seedu.waddle.model.item.Duration;
 
 /**
  * Lists all free timeslots in the itinerary to the user.
@@ -12,15 +14,38 @@ public class FreeCommand extends Command {
 
     public static final String COMMAND_WORD = "free";
 
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the vacant timeslots in the itinerary. "
+            + "Only timeslots of at least the given duration are listed, if one is given.\n"
+            + "Parameters: [" + PREFIX_ITEM_DURATION + "MINIMUM_DURATION]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_ITEM_DURATION + "90";
+
+    private final int minLength;
+
+    /**
+     * Creates a FreeCommand to list all vacant timeslots.
+     */
+    public FreeCommand() {
+        this.minLength = 1;
+    }
+
+    /**
+     * Creates a FreeCommand to list vacant timeslots at least as long as {@code minDuration}.
+     */
+    public FreeCommand(Duration minDuration) {
+        requireNonNull(minDuration);
+        this.minLength = minDuration.getValue();
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        return new CommandResult(StageManager.getInstance().getSelectedItinerary().getVacantSlots());
+        return new CommandResult(StageManager.getInstance().getSelectedItinerary().getVacantSlots(minLength));
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
-                || (other instanceof FreeCommand); // instanceof handles nulls
+                || (other instanceof FreeCommand // instanceof handles nulls
+                && minLength == ((FreeCommand) other).minLength);
     }
 }
@@ -0,0 +1,78 @@
+package seedu.waddle.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.waddle.logic.ItemTableReader;
+import seedu.waddle.logic.StageManager;
+import seedu.waddle.logic.commands.exceptions.CommandException;
+import seedu.waddle.model.Model;
+import seedu.waddle.model.itinerary.Itinerary;
+
+/**
+ * Imports items from a CSV or TSV file into the itinerary Wishlist.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds every item in a CSV or TSV file "
+            + "to the wishlist. Each row holds DESCRIPTION, DURATION, and optionally PRIORITY and COST.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/wishlist.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d items into the wishlist.";
+    public static final String MESSAGE_INVALID_ROWS = "No items were imported as %1$d rows are invalid:";
+    public static final String MESSAGE_MORE_INVALID_ROWS = "...and %1$d more.";
+    public static final String MESSAGE_READ_FAILURE = "Could not read the file %1$s.";
+    public static final int MAX_ROWS_SHOWN = 10;
+
+    private final Path filePath;
+
+    /**
+     * Creates an ImportCommand to import the items in the file at {@code filePath}.
+     */
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Itinerary itinerary = StageManager.getInstance().getSelectedItinerary();
+
+        ItemTableReader reader = new ItemTableReader(filePath, itinerary::hasItem);
+        try {
+            reader.read();
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_READ_FAILURE, filePath));
+        }
+
+        List<String> errors = reader.getErrors();
+        if (!errors.isEmpty()) {
+            StringBuilder message = new StringBuilder(String.format(MESSAGE_INVALID_ROWS, errors.size()));
+            for (String error : errors.subList(0, Math.min(errors.size(), MAX_ROWS_SHOWN))) {
+                message.append("\n    ").append(error);
+            }
+            if (errors.size() > MAX_ROWS_SHOWN) {
+                message.append("\n    ").append(String.format(MESSAGE_MORE_INVALID_ROWS,
+                        errors.size() - MAX_ROWS_SHOWN));
+            }
+            throw new CommandException(message.toString());
+        }
+
+        itinerary.addItems(reader.getItems());
+        return new CommandResult(String.format(MESSAGE_SUCCESS, reader.getItems().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportCommand // instanceof handles nulls
+                && filePath.equals(((ImportCommand) other).filePath));
+    }
+}
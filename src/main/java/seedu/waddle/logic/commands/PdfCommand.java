@@ -1,49 +1,221 @@
 package seedu.waddle.logic.commands;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
+import seedu.waddle.logic.PdfExportManager;
+import seedu.waddle.logic.PdfExporter;
 import seedu.waddle.logic.PdfFiller;
+import seedu.waddle.logic.PdfRenderer;
 import seedu.waddle.logic.StageManager;
 import seedu.waddle.logic.Stages;
 import seedu.waddle.logic.commands.exceptions.CommandException;
 import seedu.waddle.model.Model;
+import seedu.waddle.model.itinerary.Description;
 import seedu.waddle.model.itinerary.Itinerary;
+import seedu.waddle.model.itinerary.exceptions.ItineraryLoadException;
 
 /**
- * Export an itinerary into PDF format.
+ * Export an itinerary into PDF format, or every listed itinerary from the home page.
+ * The export runs in the background, and its progress and result are reported by the {@code PdfExportManager}.
+ * The compact layout is drawn by a {@code PdfRenderer} instead of filling the pdf template.
  */
 public class PdfCommand extends Command {
 
     public static final String COMMAND_WORD = "pdf";
+    public static final String COMPACT_LAYOUT = "compact";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": export current itinerary to PDF\n"
-            + "Example: " + COMMAND_WORD;
+            + ": export current itinerary to PDF, or every listed itinerary from the home page. "
+            + "Add \"" + COMPACT_LAYOUT + "\" to fit as many activities on each page as there is room for.\n"
+            + "Parameters: [" + COMPACT_LAYOUT + "]\n"
+            + "Example: " + COMMAND_WORD + " " + COMPACT_LAYOUT;
 
+    public static final String MESSAGE_EXPORT_STARTED =
+            "Exporting %1$s to pdf! You can keep using Waddle meanwhile, or enter \"cancel\" to stop the export.";
+    public static final String MESSAGE_EXPORT_PROGRESS = "Exporting %1$s to pdf: %2$d of %3$d days done";
     public static final String MESSAGE_EXPORT_SUCCESS =
             "Created a pdf for %1$s! Find it under Waddle in your Documents folder!";
     public static final String MESSAGE_EXPORT_FAILURE = "Failed to export!";
+    public static final String MESSAGE_EXPORT_IN_PROGRESS =
+            "Please wait for the current export to finish, or enter \"cancel\" to stop it.";
 
-    public static final String MESSAGE_EXPORT_WRONG_STAGE = "Please select an itinerary before exporting.";
+    public static final String MESSAGE_EXPORT_ALL_STARTED = "Exporting %1$d itineraries to pdf! "
+            + "You can keep using Waddle meanwhile, or enter \"cancel\" to stop the export.";
+    public static final String MESSAGE_EXPORT_ALL_PROGRESS = "Exporting itineraries to pdf: %1$d of %2$d done";
+    public static final String MESSAGE_EXPORT_ALL_RESULT = "Created pdfs for %1$d of %2$d itineraries! "
+            + "Find them under Waddle in your Documents folder!\n%3$s";
+    public static final String MESSAGE_EXPORT_ALL_CREATED = "    %1$s: created\n";
+    public static final String MESSAGE_EXPORT_ALL_FAILED = "    %1$s: failed to export\n";
+    public static final String MESSAGE_NOTHING_TO_EXPORT = "There are no itineraries to export.";
+
+    private static final String PDF_TEMPLATE = "/template/waddle_template.pdf";
+
+    private final boolean isCompact;
+
+    /**
+     * Creates a PdfCommand that exports with the pdf template.
+     */
+    public PdfCommand() {
+        this(false);
+    }
+
+    /**
+     * Creates a PdfCommand.
+     *
+     * @param isCompact If true, the activities are drawn in the compact layout instead of the pdf template.
+     */
+    public PdfCommand(boolean isCompact) {
+        this.isCompact = isCompact;
+    }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         StageManager stageManager = StageManager.getInstance();
+        PdfExportManager pdfExportManager = PdfExportManager.getInstance();
 
+        if (pdfExportManager.isExporting()) {
+            return new CommandResult(MESSAGE_EXPORT_IN_PROGRESS);
+        }
         if (stageManager.isCurrentStage(Stages.HOME)) {
-            return new CommandResult(MESSAGE_EXPORT_WRONG_STAGE);
+            return exportAll(model, pdfExportManager);
         }
 
         Itinerary itinerary = stageManager.getSelectedItinerary();
-
+        PdfExporter pdfExporter;
         try {
-            String pdfTemplate = "/template/waddle_template.pdf";
-            PdfFiller pdfFiller = new PdfFiller(itinerary, pdfTemplate);
-            pdfFiller.fillItinerary();
+            // the itinerary is read here, so later commands do not change the export
+            pdfExporter = createExporter(itinerary, model.getUserPrefs().getPdfExportParallelism(),
+                    pdfExportManager.getExportFolder());
         } catch (IOException e) {
             return new CommandResult(MESSAGE_EXPORT_FAILURE);
         }
-        return new CommandResult(String.format(MESSAGE_EXPORT_SUCCESS, itinerary.getDescription()));
+        Description description = itinerary.getDescription();
+        pdfExportManager.start(progressReporter -> export(pdfExporter, description, progressReporter));
+        return new CommandResult(String.format(MESSAGE_EXPORT_STARTED, description));
+    }
+
+    /**
+     * Returns the exporter of {@code itinerary} for the layout of this command.
+     *
+     * @param parallelism  Number of pages to fill at the same time with the pdf template.
+     * @param exportFolder Folder to save the pdf in.
+     * @throws IOException When the pdf template cannot be read.
+     */
+    private PdfExporter createExporter(Itinerary itinerary, int parallelism, Path exportFolder) throws IOException {
+        if (this.isCompact) {
+            // the compact layout is drawn on one thread, as it is much quicker than filling the template
+            return new PdfRenderer(itinerary, exportFolder);
+        }
+        return new PdfFiller(itinerary, PDF_TEMPLATE, parallelism, exportFolder);
+    }
+
+    /**
+     * Exports an itinerary with {@code pdfExporter}, reporting the days done to {@code progressReporter}.
+     *
+     * @return The result of the export.
+     * @throws InterruptedIOException If the export was cancelled.
+     */
+    private static String export(PdfExporter pdfExporter, Description description,
+            Consumer<String> progressReporter) throws InterruptedIOException {
+        try {
+            pdfExporter.fillItinerary((daysDone, totalDays) -> progressReporter.accept(
+                    String.format(MESSAGE_EXPORT_PROGRESS, description, daysDone, totalDays)));
+        } catch (InterruptedIOException e) {
+            throw e;
+        } catch (IOException e) {
+            return MESSAGE_EXPORT_FAILURE;
+        }
+        return String.format(MESSAGE_EXPORT_SUCCESS, description);
+    }
+
+    /**
+     * Starts exporting every itinerary in the filtered itinerary list of {@code model}.
+     */
+    private CommandResult exportAll(Model model, PdfExportManager pdfExportManager) {
+        List<Itinerary> itineraries = model.getFilteredItineraryList();
+        if (itineraries.isEmpty()) {
+            return new CommandResult(MESSAGE_NOTHING_TO_EXPORT);
+        }
+
+        List<PdfExporter> pdfExporters = new ArrayList<>();
+        List<Description> descriptions = new ArrayList<>();
+        for (Itinerary itinerary : itineraries) {
+            descriptions.add(itinerary.getDescription());
+            try {
+                // several itineraries are filled at the same time, so each of them is filled on one thread
+                pdfExporters.add(createExporter(itinerary, 1, pdfExportManager.getExportFolder()));
+            } catch (IOException | ItineraryLoadException e) {
+                // an itinerary that cannot be read fails on its own, and the others are still exported
+                pdfExporters.add(listener -> {
+                    throw new IOException(e.getMessage(), e);
+                });
+            }
+        }
+        int threadCount = PdfFiller.getThreadCount(model.getUserPrefs().getPdfExportParallelism());
+        pdfExportManager.start(progressReporter ->
+                exportAll(pdfExporters, descriptions, threadCount, progressReporter));
+        return new CommandResult(String.format(MESSAGE_EXPORT_ALL_STARTED, itineraries.size()));
+    }
+
+    /**
+     * Exports several itineraries with {@code pdfExporters}, up to {@code threadCount} of them at the same time.
+     * Reports the number of itineraries done to {@code progressReporter}.
+     *
+     * @return The result of the export of each itinerary.
+     * @throws InterruptedIOException If the export was cancelled.
+     */
+    private static String exportAll(List<PdfExporter> pdfExporters, List<Description> descriptions,
+            int threadCount, Consumer<String> progressReporter) throws InterruptedIOException {
+        ExecutorService workers = Executors.newFixedThreadPool(Math.min(threadCount, pdfExporters.size()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "waddle-pdf-bulk-export");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        AtomicInteger itinerariesDone = new AtomicInteger();
+        List<Future<Void>> exports = new ArrayList<>();
+        try {
+            for (PdfExporter pdfExporter : pdfExporters) {
+                exports.add(workers.submit(() -> {
+                    try {
+                        pdfExporter.fillItinerary();
+                    } finally {
+                        progressReporter.accept(String.format(MESSAGE_EXPORT_ALL_PROGRESS,
+                                itinerariesDone.incrementAndGet(), pdfExporters.size()));
+                    }
+                    return null;
+                }));
+            }
+
+            int itinerariesCreated = 0;
+            StringBuilder results = new StringBuilder();
+            for (int i = 0; i < exports.size(); i++) {
+                try {
+                    exports.get(i).get();
+                    itinerariesCreated++;
+                    results.append(String.format(MESSAGE_EXPORT_ALL_CREATED, descriptions.get(i)));
+                } catch (ExecutionException e) {
+                    results.append(String.format(MESSAGE_EXPORT_ALL_FAILED, descriptions.get(i)));
+                }
+            }
+            return String.format(MESSAGE_EXPORT_ALL_RESULT, itinerariesCreated, exports.size(), results);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(PdfExporter.MESSAGE_CANCELLED);
+        } finally {
+            // stops the exports that are still running if this export was cancelled
+            workers.shutdownNow();
+        }
     }
 
     @Override
@@ -54,7 +226,8 @@ public class PdfCommand extends Command {
         }
 
         // instanceof handles nulls
-        return other instanceof PdfCommand;
+        return other instanceof PdfCommand
+                && isCompact == ((PdfCommand) other).isCompact;
 
     }
 }
@@ -1,10 +1,13 @@
 package seedu.waddle.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.waddle.commons.util.AppUtil.checkArgument;
 import static seedu.waddle.logic.parser.CliSyntax.PREFIX_DAY_NUMBER;
 import static seedu.waddle.logic.parser.CliSyntax.PREFIX_START_TIME;
 
 import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import seedu.waddle.commons.core.index.Index;
 import seedu.waddle.logic.StageManager;
@@ -21,34 +24,36 @@ public class PlanCommand extends Command {
 
     public static final String COMMAND_WORD = "plan";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Schedules an item identified "
-            + "by the index number used in the item list.\n"
-            + "Parameters: INDEX (must exist in the wishlist) "
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Schedules the items identified "
+            + "by the index numbers used in the item list.\n"
+            + "Parameters: INDEX[,INDEX]... (must exist in the wishlist, ranges such as 2-4 are allowed) "
             + PREFIX_DAY_NUMBER + "DAY_NUMBER "
-            + PREFIX_START_TIME + "START_TIME "
-            + "Example: " + COMMAND_WORD + " 1 "
+            + PREFIX_START_TIME + "START_TIME[,START_TIME]... (one for each item) "
+            + "Example: " + COMMAND_WORD + " 1,3 "
             + PREFIX_DAY_NUMBER + "1 "
-            + PREFIX_START_TIME + "12:00 ";
+            + PREFIX_START_TIME + "09:00,12:00 ";
 
     public static final String MESSAGE_SUCCESS = "Item scheduled: %1$s";
     public static final String MESSAGE_INVALID_DAY_NUMBER = "The day you have selected does not exist";
     public static final String MESSAGE_INVALID_ITEM_NUMBER = "The item you have selected does not exist";
 
-    private final Index itemIndex;
+    private final List<Index> itemIndices;
     private final DayNumber dayNumber;
-    private final LocalTime startTime;
+    private final List<LocalTime> startTimes;
 
     /**
-     * Creates a PlanCommand to add the specified {@code Item}
+     * Creates a PlanCommand to schedule the items at {@code itemIndices} at the matching {@code startTimes}.
      */
-    public PlanCommand(Index itemIndex, DayNumber dayNumber, LocalTime startTime) {
-        requireNonNull(itemIndex);
+    public PlanCommand(List<Index> itemIndices, DayNumber dayNumber, List<LocalTime> startTimes) {
+        requireNonNull(itemIndices);
         requireNonNull(dayNumber);
-        requireNonNull(startTime);
+        requireNonNull(startTimes);
+        checkArgument(!itemIndices.isEmpty() && itemIndices.size() == startTimes.size(),
+                "Every item must have a start time");
 
-        this.itemIndex = itemIndex;
+        this.itemIndices = List.copyOf(itemIndices);
         this.dayNumber = dayNumber;
-        this.startTime = startTime;
+        this.startTimes = List.copyOf(startTimes);
     }
 
     @Override
@@ -59,18 +64,19 @@ public class PlanCommand extends Command {
 
         Itinerary itinerary = stageManager.getSelectedItinerary();
 
-        Item plannedItem;
-
-        plannedItem = itinerary.planItem(itemIndex, dayNumber, startTime);
-        return new CommandResult(String.format(MESSAGE_SUCCESS, plannedItem.getDescription()));
+        List<Item> plannedItems = itinerary.planItems(itemIndices, dayNumber, startTimes);
+        String descriptions = plannedItems.stream()
+                .map(item -> item.getDescription().toString())
+                .collect(Collectors.joining(", "));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, descriptions));
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof PlanCommand // instanceof handles nulls
-                && itemIndex.equals(((PlanCommand) other).itemIndex)
+                && itemIndices.equals(((PlanCommand) other).itemIndices)
                 && dayNumber.equals(((PlanCommand) other).dayNumber)
-                && startTime.equals(((PlanCommand) other).startTime));
+                && startTimes.equals(((PlanCommand) other).startTimes));
     }
 }
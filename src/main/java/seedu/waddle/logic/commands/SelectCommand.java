@@ -44,6 +44,8 @@ public class SelectCommand extends Command {
         } catch (IndexOutOfBoundsException e) {
             throw new CommandException(Messages.MESSAGE_INVALID_ITINERARY_DISPLAYED_INDEX);
         }
+        // the days and items are needed to show the itinerary
+        selectedItinerary.loadContents();
         // change to wish stage in stage manager
         try {
             stageManager.setWishStage(selectedItinerary);
@@ -2,6 +2,9 @@ package seedu.waddle.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 import seedu.waddle.commons.core.index.MultiIndex;
 import seedu.waddle.logic.StageManager;
 import seedu.waddle.logic.commands.exceptions.CommandException;
@@ -16,23 +19,23 @@ public class UnplanCommand extends Command {
 
     public static final String COMMAND_WORD = "unplan";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Unschedules an item identified "
-            + "by the index number used in the day list.\n"
-            + "Parameters: DAY_INDEX.TASK_INDEX (must exist in the day list) "
-            + "Example: " + COMMAND_WORD + " 1.2 ";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Unschedules the items identified "
+            + "by the index numbers used in the day lists.\n"
+            + "Parameters: DAY_INDEX.TASK_INDEX[,DAY_INDEX.TASK_INDEX]... (must exist in the day lists) "
+            + "Example: " + COMMAND_WORD + " 1.2,2.1 ";
 
     public static final String MESSAGE_SUCCESS = "Item unscheduled: %1$s";
     public static final String MESSAGE_INVALID_INDEX_NUMBER = "The index you have selected does not exist";
 
-    private final MultiIndex multiIndex;
+    private final List<MultiIndex> multiIndices;
 
     /**
-     * Creates an UnplanCommand to add the specified {@code Item}
+     * Creates an UnplanCommand to unschedule the items at {@code multiIndices}.
      */
-    public UnplanCommand(MultiIndex multiIndex) {
-        requireNonNull(multiIndex);
+    public UnplanCommand(List<MultiIndex> multiIndices) {
+        requireNonNull(multiIndices);
 
-        this.multiIndex = multiIndex;
+        this.multiIndices = List.copyOf(multiIndices);
     }
 
     @Override
@@ -43,20 +46,23 @@ public class UnplanCommand extends Command {
 
         Itinerary itinerary = stageManager.getSelectedItinerary();
 
-        Item unplannedItem;
+        List<Item> unplannedItems;
         try {
-            unplannedItem = itinerary.unplanItem(multiIndex);
+            unplannedItems = itinerary.unplanItems(multiIndices);
         } catch (IndexOutOfBoundsException | NullPointerException e) {
             throw new CommandException(MESSAGE_INVALID_INDEX_NUMBER);
         }
 
-        return new CommandResult(String.format(MESSAGE_SUCCESS, unplannedItem.getDescription()));
+        String descriptions = unplannedItems.stream()
+                .map(item -> item.getDescription().toString())
+                .collect(Collectors.joining(", "));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, descriptions));
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof UnplanCommand // instanceof handles nulls
-                && multiIndex.equals(((UnplanCommand) other).multiIndex));
+                && multiIndices.equals(((UnplanCommand) other).multiIndices));
     }
 }
@@ -0,0 +1,34 @@
+package seedu.waddle.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.waddle.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.waddle.logic.parser.CliSyntax.PREFIX_ITEM_DURATION;
+
+import seedu.waddle.logic.commands.FreeCommand;
+import seedu.waddle.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new FreeCommand object
+ */
+public class FreeCommandParser implements Parser<FreeCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FreeCommand
+     * and returns a FreeCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform to the expected format
+     */
+    public FreeCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_ITEM_DURATION);
+
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeCommand.MESSAGE_USAGE));
+        }
+
+        if (argMultimap.getValue(PREFIX_ITEM_DURATION).isEmpty()) {
+            return new FreeCommand();
+        }
+        return new FreeCommand(ParserUtil.parseDuration(argMultimap.getValue(PREFIX_ITEM_DURATION).get()));
+    }
+}
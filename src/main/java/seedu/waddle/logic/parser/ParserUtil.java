@@ -4,11 +4,16 @@ import static java.util.Objects.requireNonNull;
 
 import java.time.LocalTime;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 import seedu.waddle.commons.core.index.Index;
 import seedu.waddle.commons.core.index.MultiIndex;
 import seedu.waddle.commons.util.StringUtil;
 import seedu.waddle.logic.parser.exceptions.ParseException;
+import seedu.waddle.logic.parser.exceptions.TooManyIndicesException;
 import seedu.waddle.model.item.Cost;
 import seedu.waddle.model.item.Duration;
 import seedu.waddle.model.item.Priority;
@@ -28,6 +33,10 @@ import seedu.waddle.model.itinerary.People;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_DUPLICATE_INDEX = "The same index should not be given more than once.";
+    public static final String MESSAGE_TOO_MANY_INDICES = "At most %1$d indices can be given at a time.";
+    public static final String LIST_SEPARATOR = ",";
+    public static final String RANGE_SEPARATOR = "-";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -46,6 +55,51 @@ public class ParserUtil {
         return index;
     }
 
+    /**
+     * Parses a comma-separated list of one-based indices and index ranges, e.g. {@code 1,3,5-7},
+     * into a list of {@code Index} in the given order. Leading and trailing whitespaces will be trimmed.
+     * The number of indices is checked before any range is expanded, so a huge range is rejected straight away.
+     * @param maxCount the largest number of indices allowed.
+     * @throws ParseException if any index or range is invalid, or if an index is given more than once.
+     * @throws TooManyIndicesException if there are more than {@code maxCount} indices.
+     */
+    public static List<Index> parseIndices(String oneBasedIndices, int maxCount) throws ParseException {
+        requireNonNull(oneBasedIndices);
+        String[] tokens = oneBasedIndices.split(LIST_SEPARATOR, -1);
+        Index[] firsts = new Index[tokens.length];
+        Index[] lasts = new Index[tokens.length];
+        long count = 0;
+        for (int j = 0; j < tokens.length; j++) {
+            String[] bounds = tokens[j].split(RANGE_SEPARATOR, -1);
+            if (bounds.length > 2) {
+                throw new ParseException(MESSAGE_INVALID_INDEX);
+            }
+            firsts[j] = parseIndex(bounds[0]);
+            lasts[j] = bounds.length == 2 ? parseIndex(bounds[1]) : firsts[j];
+            if (lasts[j].getZeroBased() < firsts[j].getZeroBased()) {
+                throw new ParseException(MESSAGE_INVALID_INDEX);
+            }
+            count += lasts[j].getZeroBased() - firsts[j].getZeroBased() + 1;
+            if (count > maxCount) {
+                throw new TooManyIndicesException(String.format(MESSAGE_TOO_MANY_INDICES, maxCount));
+            }
+        }
+
+        List<Index> indices = new ArrayList<>();
+        Set<Integer> seen = new HashSet<>();
+        for (int j = 0; j < tokens.length; j++) {
+            Index first = firsts[j];
+            Index last = lasts[j];
+            for (int i = first.getZeroBased(); i <= last.getZeroBased(); i++) {
+                if (!seen.add(i)) {
+                    throw new ParseException(MESSAGE_DUPLICATE_INDEX);
+                }
+                indices.add(Index.fromZeroBased(i));
+            }
+        }
+        return indices;
+    }
+
     /**
      * Parses {@code oneBasedMultiIndex} into an {@code MultiIndex} and returns it. Leading and trailing whitespaces
      * will be trimmed.
@@ -65,6 +119,24 @@ public class ParserUtil {
         return multiIndex;
     }
 
+    /**
+     * Parses a comma-separated list of one-based multi indices, e.g. {@code 1.2,2.1}, into a list of
+     * {@code MultiIndex} in the given order. Leading and trailing whitespaces will be trimmed.
+     * @throws ParseException if any multi index is invalid, or if a multi index is given more than once.
+     */
+    public static List<MultiIndex> parseMultiIndices(String oneBasedMultiIndices) throws ParseException {
+        requireNonNull(oneBasedMultiIndices);
+        List<MultiIndex> multiIndices = new ArrayList<>();
+        for (String token : oneBasedMultiIndices.split(LIST_SEPARATOR, -1)) {
+            MultiIndex multiIndex = parseMultiIndex(token);
+            if (multiIndices.contains(multiIndex)) {
+                throw new ParseException(MESSAGE_DUPLICATE_INDEX);
+            }
+            multiIndices.add(multiIndex);
+        }
+        return multiIndices;
+    }
+
 
     /**
      * Parses a {@code String description} into a {@code Description}.
@@ -239,4 +311,18 @@ public class ParserUtil {
         return time;
     }
 
+    /**
+     * Parses a comma-separated list of start times, e.g. {@code 09:00,11:00}, into a list of {@code LocalTime}.
+     *
+     * @throws ParseException if any of the start times is invalid.
+     */
+    public static List<LocalTime> parseStartTimes(String startTimes) throws ParseException {
+        requireNonNull(startTimes);
+        List<LocalTime> times = new ArrayList<>();
+        for (String startTime : startTimes.split(LIST_SEPARATOR, -1)) {
+            times.add(parseStartTime(startTime));
+        }
+        return times;
+    }
+
 }
@@ -0,0 +1,32 @@
+package seedu.waddle.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.waddle.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.waddle.logic.commands.PdfCommand;
+import seedu.waddle.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new PdfCommand object
+ */
+public class PdfCommandParser implements Parser<PdfCommand> {
+    /**
+     * Parses the given {@code String} of arguments in the context of the PdfCommand
+     * and returns a PdfCommand object for execution.
+     *
+     * @param args Arguments
+     * @return PdfCommand
+     * @throws ParseException If the user input does not conform to the expected format
+     */
+    public PdfCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String layout = args.trim();
+        if (layout.isEmpty()) {
+            return new PdfCommand();
+        }
+        if (layout.equals(PdfCommand.COMPACT_LAYOUT)) {
+            return new PdfCommand(true);
+        }
+        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, PdfCommand.MESSAGE_USAGE));
+    }
+}
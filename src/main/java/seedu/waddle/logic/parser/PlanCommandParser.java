@@ -6,17 +6,22 @@ import static seedu.waddle.logic.parser.CliSyntax.PREFIX_DAY_NUMBER;
 import static seedu.waddle.logic.parser.CliSyntax.PREFIX_START_TIME;
 
 import java.time.LocalTime;
+import java.util.List;
 import java.util.stream.Stream;
 
 import seedu.waddle.commons.core.index.Index;
 import seedu.waddle.logic.commands.PlanCommand;
 import seedu.waddle.logic.parser.exceptions.ParseException;
+import seedu.waddle.logic.parser.exceptions.TooManyIndicesException;
+import seedu.waddle.model.item.TimeSlotIndex;
 import seedu.waddle.model.itinerary.DayNumber;
 
 /**
  * Parses input arguments and creates a new PlanCommand object
  */
 public class PlanCommandParser implements Parser<PlanCommand> {
+    // every item lasts at least a minute, so no more items fit in a day
+    private static final int MAX_ITEMS = TimeSlotIndex.MINUTES_PER_DAY;
 
     /**
      * Returns true if none of the prefixes contains empty {@code Optional} values in the given
@@ -42,16 +47,21 @@ public class PlanCommandParser implements Parser<PlanCommand> {
                     PlanCommand.MESSAGE_USAGE));
         }
 
-        Index index;
+        List<Index> indices;
         try {
-            index = ParserUtil.parseIndex(argMultimap.getPreamble());
+            indices = ParserUtil.parseIndices(argMultimap.getPreamble(), MAX_ITEMS);
+        } catch (TooManyIndicesException tmie) {
+            throw tmie;
         } catch (ParseException pe) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, PlanCommand.MESSAGE_USAGE), pe);
         }
 
         DayNumber dayNumber = ParserUtil.parseDayNumber(argMultimap.getValue(PREFIX_DAY_NUMBER).get());
-        LocalTime startTime = ParserUtil.parseStartTime(argMultimap.getValue(PREFIX_START_TIME).get());
+        List<LocalTime> startTimes = ParserUtil.parseStartTimes(argMultimap.getValue(PREFIX_START_TIME).get());
+        if (startTimes.size() != indices.size()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, PlanCommand.MESSAGE_USAGE));
+        }
 
-        return new PlanCommand(index, dayNumber, startTime);
+        return new PlanCommand(indices, dayNumber, startTimes);
     }
 }
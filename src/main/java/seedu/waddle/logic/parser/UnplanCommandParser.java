@@ -3,6 +3,8 @@ package seedu.waddle.logic.parser;
 import static java.util.Objects.requireNonNull;
 import static seedu.waddle.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.util.List;
+
 import seedu.waddle.commons.core.index.MultiIndex;
 import seedu.waddle.commons.exceptions.IllegalValueException;
 import seedu.waddle.logic.commands.UnplanCommand;
@@ -22,19 +24,21 @@ public class UnplanCommandParser implements Parser<UnplanCommand> {
         requireNonNull(args);
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args);
 
-        MultiIndex multiIndex;
+        List<MultiIndex> multiIndices;
         try {
-            multiIndex = ParserUtil.parseMultiIndex(argMultimap.getPreamble());
+            multiIndices = ParserUtil.parseMultiIndices(argMultimap.getPreamble());
         } catch (IllegalValueException ive) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                     UnplanCommand.MESSAGE_USAGE), ive);
         }
 
-        if (!multiIndex.containsMultiIndex()) {
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
-                    UnplanCommand.MESSAGE_USAGE));
+        for (MultiIndex multiIndex : multiIndices) {
+            if (!multiIndex.containsMultiIndex()) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                        UnplanCommand.MESSAGE_USAGE));
+            }
         }
 
-        return new UnplanCommand(multiIndex);
+        return new UnplanCommand(multiIndices);
     }
 }
@@ -13,6 +13,8 @@ import seedu.waddle.logic.StageManager;
 import seedu.waddle.logic.Stages;
 import seedu.waddle.logic.commands.AddCommand;
 import seedu.waddle.logic.commands.AddItemCommand;
+import seedu.waddle.logic.commands.AutoPlanCommand;
+import seedu.waddle.logic.commands.CancelCommand;
 import seedu.waddle.logic.commands.ClearCommand;
 import seedu.waddle.logic.commands.Command;
 import seedu.waddle.logic.commands.CopyCommand;
@@ -25,6 +27,7 @@ import seedu.waddle.logic.commands.FindCommand;
 import seedu.waddle.logic.commands.FreeCommand;
 import seedu.waddle.logic.commands.HelpCommand;
 import seedu.waddle.logic.commands.HomeCommand;
+import seedu.waddle.logic.commands.ImportCommand;
 import seedu.waddle.logic.commands.ListCommand;
 import seedu.waddle.logic.commands.PdfCommand;
 import seedu.waddle.logic.commands.PlanCommand;
@@ -111,14 +114,22 @@ public class WaddleParser {
         case HelpCommand.COMMAND_WORD:
             return new HelpCommand();
 
+        case CancelCommand.COMMAND_WORD:
+            return new CancelCommand();
+
+        case PdfCommand.COMMAND_WORD:
+            return new PdfCommandParser().parse(arguments);
+
         case PlanCommand.COMMAND_WORD:
 
+        case AutoPlanCommand.COMMAND_WORD:
+
+        case ImportCommand.COMMAND_WORD:
+
         case UnplanCommand.COMMAND_WORD:
 
         case FreeCommand.COMMAND_WORD:
 
-        case PdfCommand.COMMAND_WORD:
-
         case CopyCommand.COMMAND_WORD:
             throw new ParseException(MESSAGE_UNAVAILABLE_COMMAND_HOME);
 
@@ -145,11 +156,14 @@ public class WaddleParser {
             return new ExitCommand();
 
         case FreeCommand.COMMAND_WORD:
-            return new FreeCommand();
+            return new FreeCommandParser().parse(arguments);
 
         case AddItemCommand.COMMAND_WORD:
             return new AddItemCommandParser().parse(arguments);
 
+        case ImportCommand.COMMAND_WORD:
+            return new ImportCommandParser().parse(arguments);
+
         case EditItemCommand.COMMAND_WORD:
             return new EditItemCommandParser().parse(arguments);
 
@@ -159,6 +173,9 @@ public class WaddleParser {
         case PlanCommand.COMMAND_WORD:
             return new PlanCommandParser().parse(arguments);
 
+        case AutoPlanCommand.COMMAND_WORD:
+            return new AutoPlanCommand();
+
         case UnplanCommand.COMMAND_WORD:
             return new UnplanCommandParser().parse(arguments);
 
@@ -166,7 +183,10 @@ public class WaddleParser {
             return new HelpCommand();
 
         case PdfCommand.COMMAND_WORD:
-            return new PdfCommand();
+            return new PdfCommandParser().parse(arguments);
+
+        case CancelCommand.COMMAND_WORD:
+            return new CancelCommand();
 
         case CopyCommand.COMMAND_WORD:
             return new CopyCommand();
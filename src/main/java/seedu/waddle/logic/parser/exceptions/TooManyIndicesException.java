@@ -0,0 +1,11 @@
+package seedu.waddle.logic.parser.exceptions;
+
+/**
+ * Signals that more indices were given than a command can take at a time.
+ */
+public class TooManyIndicesException extends ParseException {
+
+    public TooManyIndicesException(String message) {
+        super(message);
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.waddle.model;
 
 import java.nio.file.Path;
+import java.util.Optional;
 
 import seedu.waddle.commons.core.GuiSettings;
 
@@ -13,4 +14,32 @@ public interface ReadOnlyUserPrefs {
 
     Path getWaddleFilePath();
 
+    UserPrefs.WaddleStorageType getWaddleStorageType();
+
+    /**
+     * Returns the storage type the data was last stored with, if known.
+     * The data is converted when it differs from {@link #getWaddleStorageType()}.
+     */
+    Optional<UserPrefs.WaddleStorageType> getLastWaddleStorageType();
+
+    /**
+     * Returns true if the json data file should be written on a background thread after each command.
+     */
+    boolean isWriteBehindSave();
+
+    /**
+     * Returns true if json data files should be written without line breaks and indentation.
+     */
+    boolean isCompactJson();
+
+    /**
+     * Returns true if the days and items of each itinerary should be loaded only when first needed.
+     */
+    boolean isLazyLoading();
+
+    /**
+     * Returns the number of pdf pages to fill at the same time when exporting, or 0 for one per processor.
+     */
+    int getPdfExportParallelism();
+
 }
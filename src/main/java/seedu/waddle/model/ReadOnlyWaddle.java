@@ -14,4 +14,10 @@ public interface ReadOnlyWaddle {
      */
     ObservableList<Itinerary> getItineraryList();
 
+    /**
+     * Returns a number that increases whenever the data changes.
+     * Equal versions of the same Waddle mean that nothing has changed in between.
+     */
+    long getVersion();
+
 }
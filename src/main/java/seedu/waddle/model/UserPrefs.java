@@ -1,10 +1,12 @@
 package seedu.waddle.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.waddle.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
+import java.util.Optional;
 
 import seedu.waddle.commons.core.GuiSettings;
 
@@ -13,8 +15,29 @@ import seedu.waddle.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    /**
+     * Ways in which Waddle data can be stored.
+     */
+    public enum WaddleStorageType {
+        /** A single json file that is rewritten on every save. */
+        JSON,
+        /** A json snapshot file with a journal of the changes since the snapshot. */
+        JOURNAL,
+        /** A directory with one json file per itinerary. */
+        SHARDED,
+        /** A single file in a compact binary format. */
+        BINARY
+    }
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path waddleFilePath = Paths.get("data" , "waddle.json");
+    private WaddleStorageType waddleStorageType = WaddleStorageType.JSON;
+    // the storage type the data was last stored with, or null if not known yet
+    private WaddleStorageType lastWaddleStorageType = null;
+    private boolean isWriteBehindSave = false;
+    private boolean isCompactJson = false;
+    private boolean isLazyLoading = false;
+    private int pdfExportParallelism = 0;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +59,12 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setWaddleFilePath(newUserPrefs.getWaddleFilePath());
+        setWaddleStorageType(newUserPrefs.getWaddleStorageType());
+        lastWaddleStorageType = newUserPrefs.getLastWaddleStorageType().orElse(null);
+        setWriteBehindSave(newUserPrefs.isWriteBehindSave());
+        setCompactJson(newUserPrefs.isCompactJson());
+        setLazyLoading(newUserPrefs.isLazyLoading());
+        setPdfExportParallelism(newUserPrefs.getPdfExportParallelism());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +85,57 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.waddleFilePath = waddleFilePath;
     }
 
+    public WaddleStorageType getWaddleStorageType() {
+        return waddleStorageType;
+    }
+
+    public void setWaddleStorageType(WaddleStorageType waddleStorageType) {
+        requireNonNull(waddleStorageType);
+        this.waddleStorageType = waddleStorageType;
+    }
+
+    public Optional<WaddleStorageType> getLastWaddleStorageType() {
+        return Optional.ofNullable(lastWaddleStorageType);
+    }
+
+    public void setLastWaddleStorageType(WaddleStorageType lastWaddleStorageType) {
+        requireNonNull(lastWaddleStorageType);
+        this.lastWaddleStorageType = lastWaddleStorageType;
+    }
+
+    public boolean isWriteBehindSave() {
+        return isWriteBehindSave;
+    }
+
+    public void setWriteBehindSave(boolean isWriteBehindSave) {
+        this.isWriteBehindSave = isWriteBehindSave;
+    }
+
+    public boolean isCompactJson() {
+        return isCompactJson;
+    }
+
+    public void setCompactJson(boolean isCompactJson) {
+        this.isCompactJson = isCompactJson;
+    }
+
+    public boolean isLazyLoading() {
+        return isLazyLoading;
+    }
+
+    public void setLazyLoading(boolean isLazyLoading) {
+        this.isLazyLoading = isLazyLoading;
+    }
+
+    public int getPdfExportParallelism() {
+        return pdfExportParallelism;
+    }
+
+    public void setPdfExportParallelism(int pdfExportParallelism) {
+        checkArgument(pdfExportParallelism >= 0);
+        this.pdfExportParallelism = pdfExportParallelism;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,12 +148,19 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && waddleFilePath.equals(o.waddleFilePath);
+                && waddleFilePath.equals(o.waddleFilePath)
+                && waddleStorageType == o.waddleStorageType
+                && lastWaddleStorageType == o.lastWaddleStorageType
+                && isWriteBehindSave == o.isWriteBehindSave
+                && isCompactJson == o.isCompactJson
+                && isLazyLoading == o.isLazyLoading
+                && pdfExportParallelism == o.pdfExportParallelism;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, waddleFilePath);
+        return Objects.hash(guiSettings, waddleFilePath, waddleStorageType, lastWaddleStorageType, isWriteBehindSave,
+                isCompactJson, isLazyLoading, pdfExportParallelism);
     }
 
     @Override
@@ -81,6 +168,12 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + waddleFilePath);
+        sb.append("\nData storage type : " + waddleStorageType);
+        sb.append("\nLast data storage type : " + lastWaddleStorageType);
+        sb.append("\nWrite-behind save : " + isWriteBehindSave);
+        sb.append("\nCompact json : " + isCompactJson);
+        sb.append("\nLazy loading : " + isLazyLoading);
+        sb.append("\nPdf export parallelism : " + pdfExportParallelism);
         return sb.toString();
     }
 
@@ -15,6 +15,8 @@ import seedu.waddle.model.itinerary.UniqueItineraryList;
 public class Waddle implements ReadOnlyWaddle {
 
     private final UniqueItineraryList itineraries;
+    // increases whenever the itinerary list changes, see getVersion
+    private long version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -44,7 +46,9 @@ public class Waddle implements ReadOnlyWaddle {
      * {@code itineraries} must not contain duplicate itineraries.
      */
     public void setItineraries(List<Itinerary> itineraries) {
+        long replacedVersions = getVersion();
         this.itineraries.setItineraries(itineraries);
+        this.version = replacedVersions + 1;
     }
 
     /**
@@ -72,6 +76,7 @@ public class Waddle implements ReadOnlyWaddle {
      */
     public void addItinerary(Itinerary p) {
         itineraries.add(p);
+        version++;
     }
 
     /**
@@ -84,6 +89,7 @@ public class Waddle implements ReadOnlyWaddle {
         requireNonNull(editedItinerary);
 
         itineraries.setItinerary(target, editedItinerary);
+        version += target.getVersion() + 1;
     }
 
     /**
@@ -92,6 +98,7 @@ public class Waddle implements ReadOnlyWaddle {
      */
     public void removeItinerary(Itinerary key) {
         itineraries.remove(key);
+        version += key.getVersion() + 1;
     }
 
     //// util methods
@@ -102,6 +109,15 @@ public class Waddle implements ReadOnlyWaddle {
         // TODO: refine later
     }
 
+    @Override
+    public long getVersion() {
+        long totalVersion = version;
+        for (Itinerary itinerary : itineraries) {
+            totalVersion += itinerary.getVersion();
+        }
+        return totalVersion;
+    }
+
     @Override
     public ObservableList<Itinerary> getItineraryList() {
         return itineraries.asUnmodifiableObservableList();
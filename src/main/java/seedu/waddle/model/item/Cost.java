@@ -3,13 +3,15 @@ package seedu.waddle.model.item;
 import static java.util.Objects.requireNonNull;
 import static seedu.waddle.commons.util.AppUtil.checkArgument;
 
+import seedu.waddle.commons.util.MoneyUtil;
+
 /**
  * Represents the estimated cost of an Item in the Itinerary.
  */
 public class Cost {
     public static final String MESSAGE_CONSTRAINTS =
             "Cost must be a value from $0 to $1,000,000.";
-    private final float cost;
+    private final long cents;
 
     /**
      * Constructs a {@code Cost}.
@@ -19,25 +21,18 @@ public class Cost {
     public Cost(String cost) {
         requireNonNull(cost);
         checkArgument(isValidCost(cost), MESSAGE_CONSTRAINTS);
-        // round off the decimal to 2dp (money)
-        this.cost = Math.round(Float.parseFloat(cost) * 100.0F) / 100.0F;
+        this.cents = MoneyUtil.parseCents(cost);
     }
 
     /**
      * Returns true if a given string is a valid Cost
      */
     public static boolean isValidCost(String test) {
-        float value;
-        try {
-            value = Float.parseFloat(test);
-        } catch (NumberFormatException e) {
-            return false;
-        }
-        return value >= 0 && value <= 1000000;
+        return MoneyUtil.isValidAmount(test, MoneyUtil.MAX_CENTS);
     }
 
-    public float getValue() {
-        return this.cost;
+    public long getCents() {
+        return this.cents;
     }
 
     @Override
@@ -51,11 +46,16 @@ public class Cost {
         }
 
         Cost otherCost = (Cost) other;
-        return this.cost == otherCost.cost;
+        return this.cents == otherCost.cents;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(this.cents);
     }
 
     @Override
     public String toString() {
-        return String.valueOf(cost);
+        return MoneyUtil.toSaveString(this.cents);
     }
 }
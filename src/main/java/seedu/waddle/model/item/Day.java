@@ -2,29 +2,33 @@ package seedu.waddle.model.item;
 
 import static seedu.waddle.commons.core.Messages.MESSAGE_CONFLICTING_ITEMS;
 import static seedu.waddle.commons.core.Messages.MESSAGE_ITEM_PAST_MIDNIGHT;
+import static seedu.waddle.commons.util.AppUtil.checkArgument;
+import static seedu.waddle.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.time.LocalTime;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.waddle.commons.core.Text;
 import seedu.waddle.commons.core.index.Index;
 import seedu.waddle.logic.commands.exceptions.CommandException;
+import seedu.waddle.model.item.exceptions.DuplicateItemException;
 import seedu.waddle.model.item.exceptions.Period;
 
 /**
  * Encapsulates a day in an itinerary.
  */
 public class Day {
-    private final Comparator<Item> startTimeComparator = new Comparator<Item>() {
-        @Override
-        public int compare(Item item1, Item item2) {
-            return item1.getStartTime().compareTo(item2.getStartTime());
-        }
-    };
+    public static final String MESSAGE_INVALID_SCHEDULE =
+            "Items of a day must be sorted by start time, must not overlap and must end by midnight.";
+
     private final int dayNumber;
     private final UniqueItemList itemList;
+    private final TimeSlotIndex timeSlots;
+    // total cost of the items in this day, in cents
+    private long totalCost;
+    // increases whenever the items in this day change
+    private long version;
 
     /**
      * Constructor.
@@ -34,10 +38,56 @@ public class Day {
     public Day(int dayNumber) {
         this.dayNumber = dayNumber;
         this.itemList = new UniqueItemList();
+        this.timeSlots = new TimeSlotIndex();
+        this.totalCost = 0;
+        this.version = 0;
+    }
+
+    /**
+     * Constructs a day with the given items, without checking each item for conflicts as {@link #addItem} does.
+     * Used to rebuild a saved day, whose items are already in order.
+     *
+     * @param dayNumber The day number.
+     * @param items     The items of the day, which must be a valid schedule.
+     * @throws DuplicateItemException If an item appears more than once in {@code items}.
+     * @see #isValidSchedule(List)
+     */
+    public Day(int dayNumber, List<Item> items) {
+        this(dayNumber);
+        requireAllNonNull(items);
+        checkArgument(isValidSchedule(items), MESSAGE_INVALID_SCHEDULE);
+        this.itemList.setItems(items);
+        for (Item item : items) {
+            int start = TimeSlotIndex.toMinuteOfDay(item.getStartTime());
+            this.timeSlots.append(start, start + item.getDuration().getValue());
+            this.totalCost += item.getCost().getCents();
+        }
+    }
+
+    /**
+     * Returns true if {@code items} all have start times, are sorted by start time, do not overlap,
+     * and end by midnight, which is how the items of a day are kept.
+     * This takes one pass over the items.
+     */
+    public static boolean isValidSchedule(List<Item> items) {
+        int previousEnd = 0;
+        for (Item item : items) {
+            if (item.getStartTime() == null) {
+                return false;
+            }
+            int start = TimeSlotIndex.toMinuteOfDay(item.getStartTime());
+            int end = start + item.getDuration().getValue();
+            if (start < previousEnd || end > TimeSlotIndex.MINUTES_PER_DAY) {
+                return false;
+            }
+            previousEnd = end;
+        }
+        return true;
     }
 
     /**
      * Adds an item to this day if there are no time conflicts.
+     * The item is inserted at its position by start time, so the item list stays sorted.
      *
      * @param item The item to be added.
      * @throws CommandException Conflicting items message thrown if there are time conflicts.
@@ -55,8 +105,13 @@ public class Day {
             }
             throw new CommandException(String.format(MESSAGE_CONFLICTING_ITEMS, conflicts));
         }
-        this.itemList.add(item);
-        this.itemList.sort(startTimeComparator);
+        int start = TimeSlotIndex.toMinuteOfDay(item.getStartTime());
+        int end = start + item.getDuration().getValue();
+        int position = this.timeSlots.firstStartingFrom(start);
+        this.itemList.add(position, item);
+        this.timeSlots.insert(position, start, end);
+        this.totalCost += item.getCost().getCents();
+        this.version++;
     }
 
     /**
@@ -67,6 +122,9 @@ public class Day {
      */
     public Item removeItem(Index index) {
         Item removedItem = this.itemList.remove(index.getZeroBased());
+        this.timeSlots.remove(index.getZeroBased());
+        this.totalCost -= removedItem.getCost().getCents();
+        this.version++;
         //removedItem.resetStartTime();
         return removedItem;
     }
@@ -84,6 +142,7 @@ public class Day {
         for (Item item : this.itemList) {
             item.resetStartTime();
         }
+        this.version++;
         return this.itemList;
     }
 
@@ -98,27 +157,17 @@ public class Day {
      */
     private Optional<ArrayList<Item>> getConflictingItems(Item newItem) {
         ArrayList<Item> conflictingItems = new ArrayList<>();
+        int start = TimeSlotIndex.toMinuteOfDay(newItem.getStartTime());
+        int end = start + newItem.getDuration().getValue();
         // item goes past midnight and overflows
-        if (newItem.getEndTime().isBefore(newItem.getStartTime())
-                || newItem.getEndTime().equals(newItem.getStartTime())) {
+        if (end > TimeSlotIndex.MINUTES_PER_DAY) {
             return Optional.empty();
         }
-        // check for conflicting items
-        for (Item item : this.itemList) {
-            // same start time
-            boolean sameStartTime = item.getStartTime().equals(newItem.getStartTime());
-            // if new start time is before item start time
-            // conflict if new end time is after item start time
-            boolean startTimeConflict = newItem.getStartTime().isBefore(item.getStartTime())
-                    && newItem.getEndTime().isAfter(item.getStartTime());
-            // if new start time is after item start time
-            // conflict if new start time is before item end time
-            boolean endTimeConflict = newItem.getStartTime().isAfter(item.getStartTime())
-                    && newItem.getStartTime().isBefore(item.getEndTime());
-
-            if (sameStartTime || startTimeConflict || endTimeConflict) {
-                conflictingItems.add(item);
-            }
+        // items are sorted and do not overlap, so the conflicting items are contiguous
+        int firstConflict = this.timeSlots.firstEndingAfter(start);
+        int lastConflict = this.timeSlots.firstStartingFrom(end);
+        for (int i = firstConflict; i < lastConflict; i++) {
+            conflictingItems.add(this.itemList.get(i));
         }
         return Optional.of(conflictingItems);
     }
@@ -135,40 +184,77 @@ public class Day {
         return this.itemList;
     }
 
+    /**
+     * Returns a number that increases whenever the items in this day change.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public long getTotalCost() {
+        return this.totalCost;
+    }
+
     public int getDayNumber() {
         return this.dayNumber;
     }
 
+    /**
+     * Returns the vacant periods in this day that are at least {@code minLength} minutes long, in order.
+     *
+     * @param minLength The minimum length of a vacant period in minutes, must be positive.
+     * @return The vacant periods.
+     */
+    public List<Period> getVacantPeriods(int minLength) {
+        checkArgument(minLength > 0);
+        List<Period> vacantPeriods = new ArrayList<>();
+        int gapStart = 0;
+        for (int i = 0; i <= this.timeSlots.size(); i++) {
+            int gapEnd = i < this.timeSlots.size() ? this.timeSlots.getStart(i) : TimeSlotIndex.MINUTES_PER_DAY;
+            if (gapEnd - gapStart >= minLength) {
+                vacantPeriods.add(new Period(TimeSlotIndex.toLocalTime(gapStart), TimeSlotIndex.toLocalTime(gapEnd)));
+            }
+            if (i < this.timeSlots.size()) {
+                gapStart = this.timeSlots.getEnd(i);
+            }
+        }
+        return vacantPeriods;
+    }
+
+    /**
+     * Returns the earliest vacant period in this day that is at least {@code minLength} minutes long.
+     *
+     * @param minLength The minimum length of the vacant period in minutes, must be positive.
+     * @return The vacant period, or an empty Optional if there is none.
+     */
+    public Optional<Period> getEarliestVacantPeriod(int minLength) {
+        return getVacantPeriods(minLength).stream().findFirst();
+    }
+
     /**
      * Compiles the vacant time slots in this day and formats it as a string.
      *
      * @return The vacant slots as a string.
      */
     public String getVacantSlots() {
+        return getVacantSlots(1);
+    }
+
+    /**
+     * Compiles the vacant time slots in this day that are at least {@code minLength} minutes long
+     * and formats it as a string.
+     *
+     * @param minLength The minimum length of a vacant slot in minutes, must be positive.
+     * @return The vacant slots as a string.
+     */
+    public String getVacantSlots(int minLength) {
         if (this.itemList.getSize() == 0) {
             return "Day " + (this.dayNumber + 1) + ":" + System.lineSeparator()
                     + "    Free!" + System.lineSeparator();
         }
         StringBuilder vacantSlots = new StringBuilder("Day ");
         vacantSlots.append((this.dayNumber + 1)).append(":").append(System.lineSeparator());
-
-        ArrayList<Period> vacantPeriods = new ArrayList<>();
-        Period toBeSplit = new Period(LocalTime.MIN, LocalTime.MAX);
-        for (Item item : this.itemList) {
-            vacantPeriods.addAll(splitTimeSlot(toBeSplit, new Period(item.getStartTime(), item.getEndTime())));
-            if (vacantPeriods.size() > 0) {
-                // remove the last period to continue splitting
-                toBeSplit = vacantPeriods.remove(vacantPeriods.size() - 1);
-            } else {
-                toBeSplit = null;
-                break;
-            }
-        }
-        // add the last period back if there is any
-        if (toBeSplit != null) {
-            vacantPeriods.add(toBeSplit);
-        }
-        for (Period period : vacantPeriods) {
+        for (Period period : getVacantPeriods(minLength)) {
             vacantSlots.append("    ").append(period.getStartString()).append(" - ")
                     .append(period.getEndString()).append(System.lineSeparator());
         }
@@ -176,21 +262,6 @@ public class Day {
         return vacantSlots.toString();
     }
 
-    private ArrayList<Period> splitTimeSlot(Period big, Period small) {
-        ArrayList<Period> splitPeriods = new ArrayList<>();
-        if (big.getStart().equals(small.getStart()) && big.getEnd().equals(small.getEnd())) {
-            return splitPeriods;
-        } else if (big.getStart().equals(small.getStart())) {
-            splitPeriods.add(new Period(small.getEnd(), big.getEnd()));
-        } else if (big.getEnd().equals(small.getEnd())) {
-            splitPeriods.add(new Period(big.getStart(), small.getStart()));
-        } else if (small.getStart().isAfter(big.getStart()) && big.getEnd().isAfter(small.getEnd())) {
-            splitPeriods.add(new Period(big.getStart(), small.getStart()));
-            splitPeriods.add(new Period(small.getEnd(), big.getEnd()));
-        }
-        return splitPeriods;
-    }
-
     /**
      * Generates a text representation of the day.
      *
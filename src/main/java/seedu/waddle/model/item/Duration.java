@@ -58,4 +58,9 @@ public class Duration {
         Duration otherDuration = (Duration) other;
         return this.duration == otherDuration.duration;
     }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(this.duration);
+    }
 }
@@ -3,8 +3,10 @@ package seedu.waddle.model.item;
 import static seedu.waddle.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalTime;
+import java.util.Objects;
 
 import seedu.waddle.commons.core.Text;
+import seedu.waddle.commons.util.MoneyUtil;
 import seedu.waddle.model.itinerary.Description;
 
 /**
@@ -52,7 +54,7 @@ public class Item {
     }
 
     public String getCostString(int indents) {
-        return Text.indent("Cost $" + Text.MONEY_PRINT_FORMATTER.format(this.cost.getValue()), indents);
+        return Text.indent("Cost $" + MoneyUtil.toDisplayString(this.cost.getCents()), indents);
     }
 
     public Duration getDuration() {
@@ -132,6 +134,12 @@ public class Item {
                 && this.priority.equals(otherItem.getPriority());
     }
 
+    @Override
+    public int hashCode() {
+        // use this method for custom fields hashing instead of implementing your own
+        return Objects.hash(description, priority, cost, duration);
+    }
+
     @Override
     public String toString() {
         final StringBuilder builder = new StringBuilder();
@@ -0,0 +1,160 @@
+package seedu.waddle.model.item;
+
+import java.time.LocalTime;
+import java.util.Arrays;
+
+/**
+ * Indexes the time slots occupied by the items of a {@code Day}, stored as minutes of the day.
+ * Items in a day never overlap, so the start and end minutes are both sorted in the same order.
+ * Overlap queries and insertion points can therefore be found by binary search.
+ */
+public class TimeSlotIndex {
+    public static final int MINUTES_PER_DAY = 1440;
+    private static final int INITIAL_CAPACITY = 8;
+
+    private int[] starts = new int[INITIAL_CAPACITY];
+    private int[] ends = new int[INITIAL_CAPACITY];
+    private int size = 0;
+
+    /**
+     * Converts a time into the number of minutes since midnight.
+     *
+     * @param time The time to convert.
+     * @return The minute of the day.
+     */
+    public static int toMinuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    /**
+     * Converts a number of minutes since midnight into a time.
+     * The end of the day is represented by {@code LocalTime.MAX}.
+     *
+     * @param minute The minute of the day, from 0 to {@code MINUTES_PER_DAY}.
+     * @return The time.
+     */
+    public static LocalTime toLocalTime(int minute) {
+        if (minute == MINUTES_PER_DAY) {
+            return LocalTime.MAX;
+        }
+        return LocalTime.of(minute / 60, minute % 60);
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public int getStart(int position) {
+        checkPosition(position);
+        return this.starts[position];
+    }
+
+    public int getEnd(int position) {
+        checkPosition(position);
+        return this.ends[position];
+    }
+
+    /**
+     * Returns the position of the first slot that ends after {@code minute}.
+     * Returns {@code size()} if there is no such slot.
+     */
+    public int firstEndingAfter(int minute) {
+        int low = 0;
+        int high = this.size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (this.ends[mid] > minute) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the position of the first slot that starts at or after {@code minute}.
+     * Returns {@code size()} if there is no such slot.
+     */
+    public int firstStartingFrom(int minute) {
+        int low = 0;
+        int high = this.size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (this.starts[mid] >= minute) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns true if the period from {@code start} to {@code end} overlaps any indexed slot.
+     */
+    public boolean hasConflict(int start, int end) {
+        return firstEndingAfter(start) < firstStartingFrom(end);
+    }
+
+    /**
+     * Inserts a slot at the given position, shifting later slots back.
+     * The caller is responsible for keeping the slots sorted and non-overlapping.
+     *
+     * @param position The position to insert at.
+     * @param start    The start minute of the slot.
+     * @param end      The end minute of the slot.
+     */
+    public void insert(int position, int start, int end) {
+        if (position < 0 || position > this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+        assert start < end : "slot must have a positive length";
+        assert position == 0 || this.ends[position - 1] <= start : "slot overlaps the previous slot";
+        assert position == this.size || end <= this.starts[position] : "slot overlaps the next slot";
+
+        if (this.size == this.starts.length) {
+            this.starts = Arrays.copyOf(this.starts, this.size * 2);
+            this.ends = Arrays.copyOf(this.ends, this.size * 2);
+        }
+        System.arraycopy(this.starts, position, this.starts, position + 1, this.size - position);
+        System.arraycopy(this.ends, position, this.ends, position + 1, this.size - position);
+        this.starts[position] = start;
+        this.ends[position] = end;
+        this.size++;
+    }
+
+    /**
+     * Appends a slot after all the other slots.
+     * The caller is responsible for keeping the slots sorted and non-overlapping.
+     *
+     * @param start The start minute of the slot.
+     * @param end   The end minute of the slot.
+     */
+    public void append(int start, int end) {
+        insert(this.size, start, end);
+    }
+
+    /**
+     * Removes the slot at the given position, shifting later slots forward.
+     */
+    public void remove(int position) {
+        checkPosition(position);
+        System.arraycopy(this.starts, position + 1, this.starts, position, this.size - position - 1);
+        System.arraycopy(this.ends, position + 1, this.ends, position, this.size - position - 1);
+        this.size--;
+    }
+
+    /**
+     * Removes all slots.
+     */
+    public void clear() {
+        this.size = 0;
+    }
+
+    private void checkPosition(int position) {
+        if (position < 0 || position >= this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+}
@@ -4,21 +4,29 @@ import static java.util.Objects.requireNonNull;
 import static seedu.waddle.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.waddle.model.item.exceptions.DuplicateItemException;
 import seedu.waddle.model.item.exceptions.ItemNotFoundException;
+import seedu.waddle.model.itinerary.Description;
 
 /**
  * Represents the list of items in an itinerary.
+ * Items are also indexed by their description, which is their identity as defined by
+ * {@code Item#isSameItem(Item)}, so that duplicate checks do not need to scan the list.
  */
 public class UniqueItemList implements Iterable<Item> {
     private final ObservableList<Item> internalList = FXCollections.observableArrayList();
     private final ObservableList<Item> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Description, Item> descriptionIndex = new HashMap<>();
 
     /**
      * Get an item in the list.
@@ -39,7 +47,7 @@ public class UniqueItemList implements Iterable<Item> {
      */
     public boolean contains(Item toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameItem);
+        return descriptionIndex.containsKey(toCheck.getDescription());
     }
 
     /**
@@ -52,6 +60,20 @@ public class UniqueItemList implements Iterable<Item> {
             throw new DuplicateItemException();
         }
         internalList.add(toAdd);
+        descriptionIndex.put(toAdd.getDescription(), toAdd);
+    }
+
+    /**
+     * Adds an item to the list at the given position.
+     * The item must not already exist in the list.
+     */
+    public void add(int index, Item toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateItemException();
+        }
+        internalList.add(index, toAdd);
+        descriptionIndex.put(toAdd.getDescription(), toAdd);
     }
 
     /**
@@ -72,24 +94,26 @@ public class UniqueItemList implements Iterable<Item> {
         }
 
         internalList.set(index, editedItem);
+        descriptionIndex.remove(target.getDescription());
+        descriptionIndex.put(editedItem.getDescription(), editedItem);
     }
 
     /**
-     * Removes the equivalent item from the list.
+     * Removes the item at the given position from the list.
      * The item must exist in the list.
      */
     public Item remove(int index) {
-        Item toRemove = get(index);
+        Item toRemove = internalList.remove(index);
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
-            throw new ItemNotFoundException();
-        }
+        descriptionIndex.remove(toRemove.getDescription());
         return toRemove;
     }
 
     public void setItems(UniqueItemList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        descriptionIndex.clear();
+        descriptionIndex.putAll(replacement.descriptionIndex);
     }
 
     /**
@@ -103,6 +127,10 @@ public class UniqueItemList implements Iterable<Item> {
         }
 
         internalList.setAll(items);
+        descriptionIndex.clear();
+        for (Item item : items) {
+            descriptionIndex.put(item.getDescription(), item);
+        }
     }
 
     /**
@@ -133,11 +161,10 @@ public class UniqueItemList implements Iterable<Item> {
      * Returns true if {@code items} contains only unique items.
      */
     private boolean itemsAreUnique(List<Item> items) {
-        for (int i = 0; i < items.size() - 1; i++) {
-            for (int j = i + 1; j < items.size(); j++) {
-                if (items.get(i).isSameItem(items.get(j))) {
-                    return false;
-                }
+        Set<Description> descriptions = new HashSet<>();
+        for (Item item : items) {
+            if (!descriptions.add(item.getDescription())) {
+                return false;
             }
         }
         return true;
@@ -0,0 +1,131 @@
+package seedu.waddle.model.itinerary;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import seedu.waddle.commons.core.index.Index;
+import seedu.waddle.logic.commands.exceptions.CommandException;
+import seedu.waddle.model.item.Day;
+import seedu.waddle.model.item.Item;
+import seedu.waddle.model.item.TimeSlotIndex;
+import seedu.waddle.model.item.exceptions.Period;
+
+/**
+ * Schedules the items in the wishlist of an itinerary into its days.
+ * Items are considered in order of decreasing priority, and then increasing cost and duration,
+ * so that the most valuable items are placed first and cheaper and shorter items are preferred among equals.
+ * Each item is placed into the smallest vacant slot that fits it across all days (best fit),
+ * leaving longer slots free for longer items. Items that would exceed the remaining budget are skipped.
+ */
+public class AutoPlanner {
+    public static final long DEFAULT_TIME_LIMIT_MILLIS = 2000;
+
+    private static final Comparator<Item> PLANNING_ORDER = Comparator
+            .comparing((Item item) -> item.getPriority().getValue(), Comparator.reverseOrder())
+            .thenComparingLong(item -> item.getCost().getCents())
+            .thenComparingInt(item -> item.getDuration().getValue());
+
+    private final Itinerary itinerary;
+    private final long timeLimitMillis;
+    private final List<Item> plannedItems = new ArrayList<>();
+    private final List<Item> overBudgetItems = new ArrayList<>();
+    private final List<Item> unfitItems = new ArrayList<>();
+    private final List<Item> timedOutItems = new ArrayList<>();
+
+    /**
+     * Creates an AutoPlanner for {@code itinerary} that stops after {@code timeLimitMillis} milliseconds.
+     */
+    public AutoPlanner(Itinerary itinerary, long timeLimitMillis) {
+        requireNonNull(itinerary);
+        this.itinerary = itinerary;
+        this.timeLimitMillis = timeLimitMillis;
+    }
+
+    /**
+     * Schedules as many wishlist items as possible into the days of the itinerary.
+     * Items left in the wishlist are recorded with the reason they could not be planned.
+     */
+    public void plan() {
+        long deadline = System.nanoTime() + timeLimitMillis * 1_000_000;
+        List<Item> candidates = new ArrayList<>(itinerary.getUnscheduledItemList().asUnmodifiableObservableList());
+        candidates.sort(PLANNING_ORDER);
+
+        for (Item item : candidates) {
+            if (System.nanoTime() > deadline) {
+                timedOutItems.add(item);
+                continue;
+            }
+            if (item.getCost().getCents() > itinerary.getBudget().calculateLeftOverBudget()) {
+                overBudgetItems.add(item);
+                continue;
+            }
+            if (planIntoBestFit(item)) {
+                plannedItems.add(item);
+            } else {
+                unfitItems.add(item);
+            }
+        }
+    }
+
+    /**
+     * Plans {@code item} into the smallest vacant slot that fits it, choosing the earliest such slot on ties.
+     *
+     * @return True if the item was planned.
+     */
+    private boolean planIntoBestFit(Item item) {
+        int duration = item.getDuration().getValue();
+        int bestDay = -1;
+        Period bestSlot = null;
+        int bestLength = Integer.MAX_VALUE;
+        List<Day> days = itinerary.getDays();
+        for (int i = 0; i < days.size(); i++) {
+            for (Period slot : days.get(i).getVacantPeriods(duration)) {
+                int length = toMinutes(slot.getEnd()) - toMinutes(slot.getStart());
+                if (length < bestLength) {
+                    bestDay = i;
+                    bestSlot = slot;
+                    bestLength = length;
+                }
+            }
+        }
+        if (bestSlot == null) {
+            return false;
+        }
+
+        Index itemIndex = Index.fromZeroBased(
+                itinerary.getUnscheduledItemList().asUnmodifiableObservableList().indexOf(item));
+        DayNumber dayNumber = new DayNumber(String.valueOf(bestDay + 1));
+        try {
+            itinerary.planItem(itemIndex, dayNumber, bestSlot.getStart());
+        } catch (CommandException e) {
+            assert false : "A vacant slot that fits the item should never conflict";
+            return false;
+        }
+        return true;
+    }
+
+    private static int toMinutes(LocalTime time) {
+        return time.equals(LocalTime.MAX) ? TimeSlotIndex.MINUTES_PER_DAY : TimeSlotIndex.toMinuteOfDay(time);
+    }
+
+    public List<Item> getPlannedItems() {
+        return Collections.unmodifiableList(plannedItems);
+    }
+
+    public List<Item> getOverBudgetItems() {
+        return Collections.unmodifiableList(overBudgetItems);
+    }
+
+    public List<Item> getUnfitItems() {
+        return Collections.unmodifiableList(unfitItems);
+    }
+
+    public List<Item> getTimedOutItems() {
+        return Collections.unmodifiableList(timedOutItems);
+    }
+}
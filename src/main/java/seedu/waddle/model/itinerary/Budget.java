@@ -3,6 +3,8 @@ package seedu.waddle.model.itinerary;
 import static java.util.Objects.requireNonNull;
 import static seedu.waddle.commons.util.AppUtil.checkArgument;
 
+import seedu.waddle.commons.util.MoneyUtil;
+
 /**
  * Represents an Itinerary's budget.
  */
@@ -10,8 +12,9 @@ public class Budget {
     public static final String MESSAGE_CONSTRAINTS =
             "Budget must be a value from $0 to $1,000,000.";
     public static final String VALIDATION_REGEX = "\\d+([.][0-9]+)?$";
-    private final float initialBudget;
-    private float spending;
+    // amounts are in cents
+    private final long initialBudget;
+    private long spending;
 
     /**
      * Constructs a {@code Budget}.
@@ -21,8 +24,7 @@ public class Budget {
     public Budget(String budgetStr) {
         requireNonNull(budgetStr);
         checkArgument(isValidBudget(budgetStr), MESSAGE_CONSTRAINTS);
-        // round off the decimal to 2dp (money)
-        this.initialBudget = Math.round(Float.parseFloat(budgetStr) * 100.0F) / 100.0F;
+        this.initialBudget = MoneyUtil.parseCents(budgetStr);
         this.spending = 0;
     }
 
@@ -30,54 +32,45 @@ public class Budget {
      * Returns true if a given string is a valid budget.
      */
     public static boolean isValidBudget(String test) {
-        if (!test.matches(VALIDATION_REGEX)) {
-            return false;
-        }
-        float budget;
-        try {
-            budget = Float.parseFloat(test);
-        } catch (NumberFormatException e) {
-            return false;
-        }
-        return budget >= 0 && budget <= 1000000;
+        return test.matches(VALIDATION_REGEX) && MoneyUtil.isValidAmount(test, MoneyUtil.MAX_CENTS);
     }
 
 
     @Override
     public String toString() {
-        return String.valueOf(this.initialBudget);
+        return MoneyUtil.toSaveString(this.initialBudget);
     }
 
-    public float getValue() {
+    public long getCents() {
         return this.initialBudget;
     }
 
-    public void updateSpending(float amount) {
-        this.spending = Math.round((this.spending + amount) * 100.0F) / 100.0F;
+    public void updateSpending(long cents) {
+        this.spending += cents;
     }
 
-    public float calculateLeftOverBudget() {
+    public long calculateLeftOverBudget() {
         return this.initialBudget - this.spending;
     }
 
-    public float getSpending() {
+    public long getSpending() {
         return this.spending;
     }
 
-    public void setSpending(float amt) {
-        this.spending = Math.round(amt * 100.0F) / 100.0F;;
+    public void setSpending(long cents) {
+        this.spending = cents;
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Budget // instanceof handles nulls
-                && this.initialBudget == (((Budget) other).getValue())); // state check
+                && this.initialBudget == (((Budget) other).getCents())); // state check
     }
 
     @Override
     public int hashCode() {
-        return this.toString().hashCode();
+        return Long.hashCode(this.initialBudget);
     }
 
 }
@@ -1,12 +1,16 @@
 package seedu.waddle.model.itinerary;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.waddle.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
@@ -16,17 +20,22 @@ import seedu.waddle.commons.core.Messages;
 import seedu.waddle.commons.core.Text;
 import seedu.waddle.commons.core.index.Index;
 import seedu.waddle.commons.core.index.MultiIndex;
+import seedu.waddle.commons.exceptions.IllegalValueException;
+import seedu.waddle.commons.util.MoneyUtil;
 import seedu.waddle.logic.commands.exceptions.CommandException;
 import seedu.waddle.model.item.Day;
 import seedu.waddle.model.item.Item;
 import seedu.waddle.model.item.UniqueItemList;
 import seedu.waddle.model.item.exceptions.DuplicateItemException;
+import seedu.waddle.model.itinerary.exceptions.ItineraryLoadException;
 
 /**
  * Represents an Itinerary in Waddle.
  * Guarantees: details are present and not null, field values are validated, immutable.
  */
 public class Itinerary {
+    // location of items in the wishlist in the item location index
+    private static final int WISHLIST = -1;
 
     // Details field
     private final Description description;
@@ -38,6 +47,14 @@ public class Itinerary {
     private final StringProperty observableBudgetString;
     private final UniqueItemList unscheduledItemList;
     private final List<Day> days;
+    // hashed fields are immutable, so the hash code is computed once
+    private final int hashCode;
+    // zero-based day index of every item in this itinerary, keyed by item identity
+    private final Map<Description, Integer> itemLocations;
+    // increases whenever the wishlist or the set of days changes, see getVersion
+    private long version;
+    // days and items that have not been loaded yet, or null once they are loaded
+    private ItineraryContents unloadedContents;
     private final Comparator<Item> priorityComparator = new Comparator<Item>() {
         @Override
         public int compare(Item item1, Item item2) {
@@ -50,6 +67,21 @@ public class Itinerary {
      */
     public Itinerary(Description description, Country country, Date startDate, ItineraryDuration duration,
                      People people, Budget budget) {
+        this(null, description, country, startDate, duration, people, budget);
+    }
+
+    /**
+     * Creates an itinerary whose days and items are loaded from {@code contents} only when they are first needed.
+     * Until then, the spending of the budget is taken from {@code contents}.
+     * Every field must be present and not null.
+     */
+    public Itinerary(Description description, Country country, Date startDate, ItineraryDuration duration,
+                     People people, Budget budget, ItineraryContents contents) {
+        this(requireNonNull(contents), description, country, startDate, duration, people, budget);
+    }
+
+    private Itinerary(ItineraryContents contents, Description description, Country country, Date startDate,
+                      ItineraryDuration duration, People people, Budget budget) {
         requireAllNonNull(description, startDate, duration);
         this.description = description;
         this.country = country;
@@ -60,12 +92,64 @@ public class Itinerary {
         this.observableBudgetString = new SimpleStringProperty();
         this.unscheduledItemList = new UniqueItemList();
         this.days = new ArrayList<>();
+        this.itemLocations = new HashMap<>();
+        this.hashCode = Objects.hash(description, country, startDate, duration, people, budget);
+        this.unloadedContents = contents;
+        if (contents == null) {
+            addEmptyDays();
+        } else {
+            budget.setSpending(contents.getSpending());
+        }
+    }
+
+    private void addEmptyDays() {
         for (int i = 0; i < duration.getValue(); i++) {
             // TODO day number should start with 1 instead of 0?
             this.days.add(new Day(i));
         }
     }
 
+    /**
+     * Loads the days and items of this itinerary if they have not been loaded yet.
+     * Loading them does not count as a change for {@link #getVersion()}.
+     * If they cannot be loaded, this itinerary is left as it was, and they are loaded again when next needed.
+     *
+     * @throws ItineraryLoadException if the days or items are not valid.
+     */
+    public void loadContents() {
+        if (this.unloadedContents == null) {
+            return;
+        }
+        ItineraryContents contents = this.unloadedContents;
+        long versionBeforeLoad = this.version;
+        long spendingBeforeLoad = this.budget.getSpending();
+        // cleared first, as the contents are added through the methods that would otherwise load them
+        this.unloadedContents = null;
+        addEmptyDays();
+        try {
+            contents.loadInto(this);
+        } catch (IllegalValueException | DuplicateItemException e) {
+            this.days.clear();
+            this.unscheduledItemList.setItems(List.of());
+            this.itemLocations.clear();
+            this.version = versionBeforeLoad;
+            this.budget.setSpending(spendingBeforeLoad);
+            this.unloadedContents = contents;
+            throw new ItineraryLoadException(this.description.description, e);
+        }
+        this.version -= getVersion() - versionBeforeLoad;
+        calculateSpending();
+        this.observableBudgetString.set(getBudgetString(Text.INDENT_NONE));
+    }
+
+    /**
+     * Returns the days and items of this itinerary if they have not been loaded yet, so that they can be saved
+     * without loading them.
+     */
+    public Optional<ItineraryContents> getUnloadedContents() {
+        return Optional.ofNullable(this.unloadedContents);
+    }
+
     public Description getDescription() {
         return description;
     }
@@ -91,31 +175,73 @@ public class Itinerary {
     }
 
     public UniqueItemList getItemList() {
+        loadContents();
         return unscheduledItemList;
     }
 
     public List<Day> getDays() {
+        loadContents();
         return this.days;
     }
 
+    /**
+     * Replaces the days of this itinerary with {@code dayList}.
+     * Items in days beyond the duration of this itinerary are moved to the wishlist,
+     * and the spending of the budget is recalculated from the new days.
+     *
+     * @param dayList The days to use.
+     * @throws DuplicateItemException If an item appears more than once in this itinerary.
+     */
     public void setDays(List<Day> dayList) {
+        loadContents();
         for (int i = 0; i < dayList.size(); i++) {
             if (i < getDuration().getValue()) {
+                for (Item item : this.days.get(i).getItemList()) {
+                    this.itemLocations.remove(item.getDescription());
+                }
+                // keep getVersion from decreasing when a day is replaced
+                this.version += this.days.get(i).getVersion() + 1;
                 this.days.set(i, dayList.get(i));
+                for (Item item : dayList.get(i).getItemList()) {
+                    if (this.itemLocations.putIfAbsent(item.getDescription(), i) != null) {
+                        throw new DuplicateItemException();
+                    }
+                }
             } else {
                 // transfer all items from extra days to unscheduled item list
                 for (Item item : dayList.get(i).deleteDay()) {
-                    addItem(item);
-                    this.budget.updateSpending(-item.getCost().getValue());
+                    addUnscheduledItem(item);
                 }
             }
         }
+        sortUnscheduledItemList();
+        calculateSpending();
     }
 
+    /**
+     * Adds all items in {@code unscheduledItemList} to the wishlist of this itinerary.
+     * The wishlist is sorted and replaced once, instead of changing with each item.
+     * If any of the items already exists in this itinerary, none of them are added.
+     *
+     * @param unscheduledItemList The items to add.
+     * @throws DuplicateItemException If any of the items already exists in this itinerary.
+     */
     public void setUnscheduledItems(UniqueItemList unscheduledItemList) {
+        loadContents();
+        for (Item item : unscheduledItemList) {
+            if (hasItem(item)) {
+                throw new DuplicateItemException();
+            }
+        }
+        List<Item> wishlist = new ArrayList<>(this.unscheduledItemList.asUnmodifiableObservableList());
         for (Item item : unscheduledItemList) {
-            addItem(item);
+            wishlist.add(item);
+            this.itemLocations.put(item.getDescription(), WISHLIST);
+            this.version++;
         }
+        // saved wishlists are already in order, which the sort only needs one pass to confirm
+        wishlist.sort(priorityComparator);
+        this.unscheduledItemList.setItems(wishlist);
     }
 
     /**
@@ -131,8 +257,12 @@ public class Itinerary {
                 && otherItinerary.getDescription().equals(getDescription());
     }
 
+    /**
+     * Returns true if an item with the same identity as {@code item} is in the wishlist or any day.
+     */
     public boolean hasItem(Item item) {
-        return this.unscheduledItemList.contains(item);
+        loadContents();
+        return this.itemLocations.containsKey(item.getDescription());
     }
 
     /**
@@ -141,15 +271,44 @@ public class Itinerary {
      * @param item Item to be added.
      */
     public void addItem(Item item) {
-        for (Day day: days) {
-            if (day.hasItem(item)) {
+        loadContents();
+        addUnscheduledItem(item);
+        sortUnscheduledItemList();
+    }
+
+    /**
+     * Adds several items into the wishlist, sorting it once.
+     * If any of the items already exists in this itinerary, none of them are added.
+     *
+     * @param items Items with distinct identities to be added.
+     * @throws DuplicateItemException If any of the items already exists in this itinerary.
+     */
+    public void addItems(List<Item> items) {
+        requireNonNull(items);
+        loadContents();
+        for (Item item : items) {
+            if (hasItem(item)) {
                 throw new DuplicateItemException();
             }
         }
-        this.unscheduledItemList.add(item);
+        for (Item item : items) {
+            addUnscheduledItem(item);
+        }
         sortUnscheduledItemList();
     }
 
+    /**
+     * Adds an item to the wishlist without sorting it.
+     */
+    private void addUnscheduledItem(Item item) {
+        if (hasItem(item)) {
+            throw new DuplicateItemException();
+        }
+        this.unscheduledItemList.add(item);
+        this.itemLocations.put(item.getDescription(), WISHLIST);
+        this.version++;
+    }
+
     /**
      * Remove item from itinerary.
      *
@@ -157,18 +316,40 @@ public class Itinerary {
      * @return The item to be removed.
      */
     public Item removeItem(MultiIndex index) {
+        loadContents();
+        Item removedItem;
         if (index.getDayIndex() == null) {
-            return this.unscheduledItemList.remove(index.getTaskIndex().getZeroBased());
+            removedItem = this.unscheduledItemList.remove(index.getTaskIndex().getZeroBased());
         } else {
             Day day = this.days.get(index.getDayIndex().getZeroBased());
-            return day.removeItem(index.getTaskIndex());
+            removedItem = day.removeItem(index.getTaskIndex());
+            this.budget.updateSpending(-removedItem.getCost().getCents());
+            this.observableBudgetString.set(getBudgetString(Text.INDENT_NONE));
         }
+        this.itemLocations.remove(removedItem.getDescription());
+        this.version++;
+        return removedItem;
     }
 
+    /**
+     * Replaces the item {@code target} at {@code index} with {@code editedItem}.
+     *
+     * @param target     The item to be replaced.
+     * @param editedItem The item to replace it with.
+     * @param index      A MultiIndex specifying position of the target.
+     * @throws CommandException When the edited item conflicts in time with other items in the day.
+     */
     public void setItem(Item target, Item editedItem, MultiIndex index) throws CommandException {
+        loadContents();
+        if (!target.isSameItem(editedItem) && hasItem(editedItem)) {
+            throw new DuplicateItemException();
+        }
         if (index.getDayIndex() == null) {
             this.unscheduledItemList.setItem(target, editedItem);
             sortUnscheduledItemList();
+            this.itemLocations.remove(target.getDescription());
+            this.itemLocations.put(editedItem.getDescription(), WISHLIST);
+            this.version++;
         } else {
             Day day = this.days.get(index.getDayIndex().getZeroBased());
             day.removeItem(index.getTaskIndex());
@@ -178,17 +359,33 @@ public class Itinerary {
                 day.addItem(target);
                 throw e;
             }
-            this.budget.updateSpending(-target.getCost().getValue());
-            this.budget.updateSpending(editedItem.getCost().getValue());
+            this.itemLocations.remove(target.getDescription());
+            this.itemLocations.put(editedItem.getDescription(), index.getDayIndex().getZeroBased());
+            this.budget.updateSpending(-target.getCost().getCents());
+            this.budget.updateSpending(editedItem.getCost().getCents());
             this.observableBudgetString.set(getBudgetString(Text.INDENT_NONE));
         }
     }
 
+    /**
+     * Returns a number that increases whenever the items in this itinerary change.
+     * The days and items need not be loaded.
+     */
+    public long getVersion() {
+        long totalVersion = this.version;
+        for (Day day : this.days) {
+            totalVersion += day.getVersion();
+        }
+        return totalVersion;
+    }
+
     public int getUnscheduledSize() {
+        loadContents();
         return this.unscheduledItemList.getSize();
     }
 
     public UniqueItemList getUnscheduledItemList() {
+        loadContents();
         return this.unscheduledItemList;
     }
 
@@ -197,6 +394,7 @@ public class Itinerary {
     }
 
     public Item getItem(MultiIndex index) {
+        loadContents();
         if (index.getDayIndex() == null) {
             return this.unscheduledItemList.get(index.getTaskIndex().getZeroBased());
         } else {
@@ -215,33 +413,80 @@ public class Itinerary {
      * @throws CommandException When adding item to specific day leads to conflict in time.
      */
     public Item planItem(Index itemIndex, DayNumber dayNumber, LocalTime startTime) throws CommandException {
-        Item item;
-        try {
-            item = this.unscheduledItemList.get(itemIndex.getZeroBased());
-        } catch (IndexOutOfBoundsException e) {
-            throw new CommandException(Messages.MESSAGE_INVALID_ITEM_DISPLAYED_INDEX);
+        return planItems(List.of(itemIndex), dayNumber, List.of(startTime)).get(0);
+    }
+
+    /**
+     * Plans several items into the same day as a single change.
+     * If any of the items cannot be planned, none of them are planned.
+     *
+     * @param itemIndices Distinct indices of the items in the unscheduled list.
+     * @param dayNumber   Day to include the items.
+     * @param startTimes  Start times of the items, in the same order as {@code itemIndices}.
+     * @return The planned items.
+     * @throws CommandException When an index is invalid, the items exceed the budget,
+     *                          or an item conflicts in time with another item in the day.
+     */
+    public List<Item> planItems(List<Index> itemIndices, DayNumber dayNumber, List<LocalTime> startTimes)
+            throws CommandException {
+        requireAllNonNull(itemIndices, dayNumber, startTimes);
+        assert itemIndices.size() == startTimes.size() : "every item must have a start time";
+        loadContents();
+
+        List<Item> items = new ArrayList<>();
+        long totalCost = 0;
+        for (Index itemIndex : itemIndices) {
+            Item item;
+            try {
+                item = this.unscheduledItemList.get(itemIndex.getZeroBased());
+            } catch (IndexOutOfBoundsException e) {
+                throw new CommandException(Messages.MESSAGE_INVALID_ITEM_DISPLAYED_INDEX);
+            }
+            items.add(item);
+            totalCost += item.getCost().getCents();
         }
 
-        if (this.budget.calculateLeftOverBudget() - item.getCost().getValue() < 0) {
+        if (this.budget.calculateLeftOverBudget() - totalCost < 0) {
             throw new CommandException(Messages.MESSAGE_OVER_BUDGET);
         }
-        item.setStartTime(startTime);
         Day day;
         try {
             day = this.days.get(dayNumber.dayNumber.getZeroBased());
-            day.addItem(item);
         } catch (IndexOutOfBoundsException e) {
             throw new CommandException(Messages.MESSAGE_INVALID_DAY_INDEX);
+        }
+
+        int added = 0;
+        try {
+            for (; added < items.size(); added++) {
+                items.get(added).setStartTime(startTimes.get(added));
+                day.addItem(items.get(added));
+            }
         } catch (CommandException e) {
-            // if time conflict detected, reset the time of the item
-            item.resetStartTime();
+            // if time conflict detected, take back the items already added and reset their times
+            for (int i = 0; i < added; i++) {
+                day.removeItem(Index.fromZeroBased(day.getItemList().asUnmodifiableObservableList()
+                        .indexOf(items.get(i))));
+            }
+            for (Item item : items) {
+                item.resetStartTime();
+            }
             throw e;
         }
 
-        this.unscheduledItemList.remove(itemIndex.getZeroBased());
-        this.budget.updateSpending(item.getCost().getValue());
+        // remove from the back so that the remaining indices stay valid
+        List<Index> sortedIndices = new ArrayList<>(itemIndices);
+        sortedIndices.sort(Comparator.comparingInt(Index::getZeroBased).reversed());
+        for (Index itemIndex : sortedIndices) {
+            this.unscheduledItemList.remove(itemIndex.getZeroBased());
+        }
+        for (Item item : items) {
+            this.itemLocations.put(item.getDescription(), dayNumber.dayNumber.getZeroBased());
+        }
+        this.version++;
+        this.budget.updateSpending(totalCost);
         this.observableBudgetString.set(getBudgetString(Text.INDENT_NONE));
-        return item;
+        return items;
     }
 
     /**
@@ -250,39 +495,78 @@ public class Itinerary {
      * @param index A multiIndex to locate the day and index of task within the day
      */
     public Item unplanItem(MultiIndex index) {
-        Day day = this.days.get(index.getDayIndex().getZeroBased());
-        Item unplannedItem = day.removeItem(index.getTaskIndex());
-        unplannedItem.resetStartTime();
-        addItem(unplannedItem);
+        return unplanItems(List.of(index)).get(0);
+    }
+
+    /**
+     * Unplans several items as a single change.
+     * All indices are checked before any item is unplanned.
+     *
+     * @param indices Distinct multiIndices to locate the day and index of each task within the day.
+     * @return The unplanned items.
+     * @throws IndexOutOfBoundsException If any of the indices does not exist.
+     */
+    public List<Item> unplanItems(List<MultiIndex> indices) {
+        requireNonNull(indices);
+        loadContents();
+        List<Item> items = new ArrayList<>();
+        for (MultiIndex index : indices) {
+            Day day = this.days.get(index.getDayIndex().getZeroBased());
+            items.add(day.getItem(index.getTaskIndex()));
+        }
+
+        // remove from the back of each day so that the remaining indices stay valid
+        List<MultiIndex> sortedIndices = new ArrayList<>(indices);
+        sortedIndices.sort(Comparator.comparingInt((MultiIndex index) -> index.getTaskIndex().getZeroBased())
+                .reversed());
+        long totalCost = 0;
+        for (MultiIndex index : sortedIndices) {
+            Item unplannedItem = this.days.get(index.getDayIndex().getZeroBased()).removeItem(index.getTaskIndex());
+            unplannedItem.resetStartTime();
+            this.itemLocations.remove(unplannedItem.getDescription());
+            addUnscheduledItem(unplannedItem);
+            totalCost += unplannedItem.getCost().getCents();
+        }
         sortUnscheduledItemList();
-        this.budget.updateSpending(-unplannedItem.getCost().getValue());
+        this.budget.updateSpending(-totalCost);
         this.observableBudgetString.set(getBudgetString(Text.INDENT_NONE));
-        return unplannedItem;
+        return items;
     }
 
     /**
-     * Calculates the total spending and updates the budget
+     * Recalculates the total spending from the running total of each day and updates the budget.
      */
-    public float calculateSpending() {
-        float totalSpending = 0;
+    public long calculateSpending() {
+        loadContents();
+        long totalSpending = 0;
         for (Day day : this.days) {
-            for (Item item : day.getItemList()) {
-                totalSpending += item.getCost().getValue();
-            }
+            totalSpending += day.getTotalCost();
         }
         this.budget.setSpending(totalSpending);
         return totalSpending;
     }
 
     public String getVacantSlots() {
+        return getVacantSlots(1);
+    }
+
+    /**
+     * Compiles the vacant time slots of at least {@code minLength} minutes in every day of this itinerary.
+     *
+     * @param minLength The minimum length of a vacant slot in minutes, must be positive.
+     * @return The vacant slots as a string.
+     */
+    public String getVacantSlots(int minLength) {
+        loadContents();
         StringBuilder vacantSlots = new StringBuilder();
         for (Day day : this.days) {
-            vacantSlots.append(day.getVacantSlots()).append(System.lineSeparator());
+            vacantSlots.append(day.getVacantSlots(minLength)).append(System.lineSeparator());
         }
         return vacantSlots.toString();
     }
 
     public ObservableList<ObservableList<Item>> getUnmodifiableItemGroups() {
+        loadContents();
         ObservableList<ObservableList<Item>> itemGroups = FXCollections.observableArrayList();
         itemGroups.add(this.unscheduledItemList.asUnmodifiableObservableList());
         for (Day day : this.days) {
@@ -321,8 +605,8 @@ public class Itinerary {
     }
 
     public String getBudgetString(int indents) {
-        String budgetString = Text.MONEY_PRINT_FORMATTER.format(this.budget.getValue());
-        String leftOverString = Text.MONEY_PRINT_FORMATTER.format(this.budget.calculateLeftOverBudget());
+        String budgetString = MoneyUtil.toDisplayString(this.budget.getCents());
+        String leftOverString = MoneyUtil.toDisplayString(this.budget.calculateLeftOverBudget());
         if (this.budget.getSpending() == 0) {
             return Text.indent("Budget: $" + budgetString, indents);
         } else {
@@ -342,6 +626,7 @@ public class Itinerary {
      * @return The text representation.
      */
     public String getTextRepresentation() {
+        loadContents();
         StringBuilder itineraryText = new StringBuilder();
         itineraryText.append(this)
                 .append(System.lineSeparator()).append(System.lineSeparator());
@@ -379,8 +664,7 @@ public class Itinerary {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(description, country, startDate, duration, people, budget);
+        return this.hashCode;
     }
 
     @Override
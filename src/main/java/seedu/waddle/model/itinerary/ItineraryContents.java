@@ -0,0 +1,21 @@
+package seedu.waddle.model.itinerary;
+
+import seedu.waddle.commons.exceptions.IllegalValueException;
+
+/**
+ * The days and items of an {@code Itinerary} that has been created without them, to be loaded when first needed.
+ */
+public interface ItineraryContents {
+
+    /**
+     * Adds the days and items to {@code itinerary}, which has empty days and an empty wishlist.
+     *
+     * @throws IllegalValueException if the days or items are not valid.
+     */
+    void loadInto(Itinerary itinerary) throws IllegalValueException;
+
+    /**
+     * Returns the total cost in cents of the items planned in the days, to be shown before they are loaded.
+     */
+    long getSpending();
+}
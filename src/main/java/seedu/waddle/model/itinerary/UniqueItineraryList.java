@@ -3,8 +3,12 @@ package seedu.waddle.model.itinerary;
 import static java.util.Objects.requireNonNull;
 import static seedu.waddle.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -28,13 +32,14 @@ public class UniqueItineraryList implements Iterable<Itinerary> {
     private final ObservableList<Itinerary> internalList = FXCollections.observableArrayList();
     private final ObservableList<Itinerary> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Description, Itinerary> descriptionIndex = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent itinerary as the given argument.
      */
     public boolean contains(Itinerary toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameItinerary);
+        return descriptionIndex.containsKey(toCheck.getDescription());
     }
 
     /**
@@ -47,6 +52,7 @@ public class UniqueItineraryList implements Iterable<Itinerary> {
             throw new DuplicateItineraryException();
         }
         internalList.add(toAdd);
+        descriptionIndex.put(toAdd.getDescription(), toAdd);
     }
 
     /**
@@ -68,6 +74,8 @@ public class UniqueItineraryList implements Iterable<Itinerary> {
         }
 
         internalList.set(index, editedItinerary);
+        descriptionIndex.remove(target.getDescription());
+        descriptionIndex.put(editedItinerary.getDescription(), editedItinerary);
     }
 
     /**
@@ -79,11 +87,14 @@ public class UniqueItineraryList implements Iterable<Itinerary> {
         if (!internalList.remove(toRemove)) {
             throw new ItineraryNotFoundException();
         }
+        descriptionIndex.remove(toRemove.getDescription());
     }
 
     public void setItineraries(UniqueItineraryList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        descriptionIndex.clear();
+        descriptionIndex.putAll(replacement.descriptionIndex);
     }
 
     /**
@@ -97,6 +108,10 @@ public class UniqueItineraryList implements Iterable<Itinerary> {
         }
 
         internalList.setAll(itineraries);
+        descriptionIndex.clear();
+        for (Itinerary itinerary : itineraries) {
+            descriptionIndex.put(itinerary.getDescription(), itinerary);
+        }
     }
 
     /**
@@ -127,11 +142,10 @@ public class UniqueItineraryList implements Iterable<Itinerary> {
      * Returns true if {@code itinerary} contains only unique itineraries.
      */
     private boolean itinerariesAreUnique(List<Itinerary> itineraries) {
-        for (int i = 0; i < itineraries.size() - 1; i++) {
-            for (int j = i + 1; j < itineraries.size(); j++) {
-                if (itineraries.get(i).isSameItinerary(itineraries.get(j))) {
-                    return false;
-                }
+        Set<Description> descriptions = new HashSet<>();
+        for (Itinerary itinerary : itineraries) {
+            if (!descriptions.add(itinerary.getDescription())) {
+                return false;
             }
         }
         return true;
@@ -0,0 +1,15 @@
+package seedu.waddle.model.itinerary.exceptions;
+
+/**
+ * Signals that the days and items of an itinerary could not be loaded.
+ */
+public class ItineraryLoadException extends RuntimeException {
+    /**
+     * @param description of the itinerary that could not be loaded
+     * @param cause of the failure to load it
+     */
+    public ItineraryLoadException(String description, Throwable cause) {
+        super("The days and items of itinerary " + description + " could not be loaded: " + cause.getMessage(),
+                cause);
+    }
+}
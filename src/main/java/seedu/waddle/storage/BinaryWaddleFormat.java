@@ -0,0 +1,321 @@
+package seedu.waddle.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.waddle.commons.exceptions.DataConversionException;
+import seedu.waddle.commons.exceptions.IllegalValueException;
+import seedu.waddle.commons.util.MoneyUtil;
+import seedu.waddle.model.ReadOnlyWaddle;
+import seedu.waddle.model.item.Day;
+import seedu.waddle.model.item.Item;
+import seedu.waddle.model.item.UniqueItemList;
+import seedu.waddle.model.itinerary.Itinerary;
+import seedu.waddle.model.itinerary.ItineraryContents;
+
+/**
+ * Reads and writes Waddle data in a compact binary format.
+ * The data starts with {@link #MAGIC} and the version of the format, so that data written by a newer version
+ * of Waddle is recognised instead of misread. Numbers, dates and times are stored as binary values, and each
+ * distinct string is stored once and referred to by its index afterwards.
+ * Data is read into the same Jackson-friendly classes as the json data file, so both are checked alike.
+ * The days and items of an itinerary that was read lazily and never loaded are written as they were read,
+ * as text, so that they are kept even if they are not valid.
+ */
+final class BinaryWaddleFormat {
+
+    /** The bytes "WDDL". */
+    static final int MAGIC = 0x5744444C;
+    static final int VERSION = 2;
+
+    static final String MESSAGE_NOT_BINARY = "Data is not in the Waddle binary format.";
+    static final String MESSAGE_UNSUPPORTED_VERSION =
+            "Data is in binary format version %1$d, but only versions up to %2$d are supported.";
+    static final String MESSAGE_CORRUPTED = "Binary data is corrupted.";
+
+    private static final int NEW_STRING = -1;
+    private static final int NULL_STRING = -2;
+    // how the days and items of an itinerary are written, from version 2 on
+    private static final byte CONTENTS_BINARY = 0;
+    private static final byte CONTENTS_AS_READ = 1;
+    private static final long NO_START_TIME = -1;
+    // strings are read in chunks of at most this many bytes, so a corrupted length cannot exhaust memory
+    private static final int CHUNK_SIZE = 8192;
+
+    private BinaryWaddleFormat() {}
+
+    /**
+     * Writes {@code waddle} to {@code outputStream} in the binary format.
+     * The stream is not closed.
+     */
+    static void write(ReadOnlyWaddle waddle, OutputStream outputStream) throws IOException {
+        DataOutputStream out = new DataOutputStream(outputStream);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        new Writer(out).writeWaddle(waddle);
+        out.flush();
+    }
+
+    /**
+     * Reads Waddle data in the binary format from {@code inputStream}.
+     * The stream is not closed.
+     *
+     * @throws DataConversionException if the data is not in the binary format, is of a newer version, or is
+     *     incomplete.
+     */
+    static JsonSerializableWaddle read(InputStream inputStream) throws DataConversionException, IOException {
+        DataInputStream in = new DataInputStream(inputStream);
+        try {
+            if (in.readInt() != MAGIC) {
+                throw new DataConversionException(new IllegalValueException(MESSAGE_NOT_BINARY));
+            }
+            int version = in.readInt();
+            if (version > VERSION || version < 1) {
+                throw new DataConversionException(new IllegalValueException(
+                        String.format(MESSAGE_UNSUPPORTED_VERSION, version, VERSION)));
+            }
+            return new Reader(in, version).readWaddle();
+        } catch (EOFException e) {
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            throw new DataConversionException(ive);
+        }
+    }
+
+    private static class Writer {
+        private final DataOutputStream out;
+        private final Map<String, Integer> stringIndices = new HashMap<>();
+
+        Writer(DataOutputStream out) {
+            this.out = out;
+        }
+
+        void writeWaddle(ReadOnlyWaddle waddle) throws IOException {
+            List<Itinerary> itineraries = waddle.getItineraryList();
+            out.writeInt(itineraries.size());
+            for (Itinerary itinerary : itineraries) {
+                writeItinerary(itinerary);
+            }
+        }
+
+        private void writeItinerary(Itinerary itinerary) throws IOException {
+            writeString(itinerary.getDescription().description);
+            writeString(itinerary.getCountry().country);
+            out.writeLong(itinerary.getStartDate().date.toEpochDay());
+            out.writeInt(itinerary.getDuration().getValue());
+            // kept as text, as the number of people is compared as written
+            writeString(itinerary.getPeople().numOfPeople);
+            out.writeLong(itinerary.getBudget().getCents());
+            Optional<ItineraryContents> unloadedContents = itinerary.getUnloadedContents();
+            if (unloadedContents.isPresent() && unloadedContents.get() instanceof JsonAdaptedItinerary) {
+                // loading the days and items just to save them would fail for contents that are not valid
+                out.writeByte(CONTENTS_AS_READ);
+                writeContentsAsRead((JsonAdaptedItinerary) unloadedContents.get());
+                return;
+            }
+            out.writeByte(CONTENTS_BINARY);
+            writeItems(itinerary.getItemList());
+            List<Day> days = itinerary.getDays();
+            out.writeInt(days.size());
+            for (Day day : days) {
+                out.writeInt(day.getDayNumber());
+                writeItems(day.getItemList());
+            }
+        }
+
+        private void writeItems(UniqueItemList items) throws IOException {
+            out.writeInt(items.getSize());
+            for (Item item : items) {
+                writeString(item.getDescription().description);
+                out.writeByte(item.getPriority().getValue());
+                out.writeLong(item.getCost().getCents());
+                out.writeInt(item.getDuration().getValue());
+                out.writeLong(item.getStartTime() == null ? NO_START_TIME : item.getStartTime().toNanoOfDay());
+            }
+        }
+
+        private void writeContentsAsRead(JsonAdaptedItinerary itinerary) throws IOException {
+            writeItemsAsRead(itinerary.getItems());
+            List<JsonAdaptedDay> days = itinerary.getDays();
+            out.writeInt(days.size());
+            for (JsonAdaptedDay day : days) {
+                writeNullableInt(day.getDayNumber());
+                writeItemsAsRead(day.getItems());
+            }
+        }
+
+        private void writeItemsAsRead(List<JsonAdaptedItem> items) throws IOException {
+            out.writeInt(items.size());
+            for (JsonAdaptedItem item : items) {
+                writeString(item.getDescription());
+                writeNullableInt(item.getPriority());
+                writeString(item.getCost());
+                writeString(item.getDuration());
+                writeString(item.getStartTime());
+            }
+        }
+
+        private void writeNullableInt(Integer value) throws IOException {
+            out.writeBoolean(value != null);
+            if (value != null) {
+                out.writeInt(value);
+            }
+        }
+
+        private void writeString(String string) throws IOException {
+            if (string == null) {
+                out.writeInt(NULL_STRING);
+                return;
+            }
+            Integer index = stringIndices.get(string);
+            if (index != null) {
+                out.writeInt(index);
+                return;
+            }
+            stringIndices.put(string, stringIndices.size());
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(NEW_STRING);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    private static class Reader {
+        private final DataInputStream in;
+        private final int version;
+        private final List<String> strings = new ArrayList<>();
+
+        Reader(DataInputStream in, int version) {
+            this.in = in;
+            this.version = version;
+        }
+
+        JsonSerializableWaddle readWaddle() throws IOException, IllegalValueException {
+            int count = readCount();
+            List<JsonAdaptedItinerary> itineraries = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                itineraries.add(readItinerary());
+            }
+            return new JsonSerializableWaddle(itineraries);
+        }
+
+        private JsonAdaptedItinerary readItinerary() throws IOException, IllegalValueException {
+            String description = readString();
+            String country = readString();
+            String startDate = LocalDate.ofEpochDay(readEpochDay()).toString();
+            String duration = String.valueOf(in.readInt());
+            String people = readString();
+            String budget = MoneyUtil.toSaveString(in.readLong());
+            boolean isAsRead = version >= 2 && readContentsKind() == CONTENTS_AS_READ;
+            List<JsonAdaptedItem> items = isAsRead ? readItemsAsRead() : readItems();
+            int dayCount = readCount();
+            List<JsonAdaptedDay> days = new ArrayList<>();
+            for (int i = 0; i < dayCount; i++) {
+                Integer dayNumber = isAsRead ? readNullableInt() : Integer.valueOf(in.readInt());
+                days.add(new JsonAdaptedDay(dayNumber, isAsRead ? readItemsAsRead() : readItems()));
+            }
+            return new JsonAdaptedItinerary(description, country, startDate, duration, people, budget, items, days);
+        }
+
+        private List<JsonAdaptedItem> readItems() throws IOException, IllegalValueException {
+            int count = readCount();
+            List<JsonAdaptedItem> items = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                String description = readString();
+                int priority = in.readByte();
+                String cost = MoneyUtil.toSaveString(in.readLong());
+                String duration = String.valueOf(in.readInt());
+                long startTime = in.readLong();
+                items.add(new JsonAdaptedItem(description, priority, cost, duration,
+                        startTime == NO_START_TIME ? null : readStartTime(startTime)));
+            }
+            return items;
+        }
+
+        private List<JsonAdaptedItem> readItemsAsRead() throws IOException, IllegalValueException {
+            int count = readCount();
+            List<JsonAdaptedItem> items = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                String description = readString();
+                Integer priority = readNullableInt();
+                String cost = readString();
+                String duration = readString();
+                items.add(new JsonAdaptedItem(description, priority, cost, duration, readString()));
+            }
+            return items;
+        }
+
+        private byte readContentsKind() throws IOException, IllegalValueException {
+            byte kind = in.readByte();
+            if (kind != CONTENTS_BINARY && kind != CONTENTS_AS_READ) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            return kind;
+        }
+
+        private Integer readNullableInt() throws IOException {
+            return in.readBoolean() ? in.readInt() : null;
+        }
+
+        private long readEpochDay() throws IOException, IllegalValueException {
+            long epochDay = in.readLong();
+            if (epochDay < LocalDate.MIN.toEpochDay() || epochDay > LocalDate.MAX.toEpochDay()) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            return epochDay;
+        }
+
+        private static String readStartTime(long nanoOfDay) throws IllegalValueException {
+            if (nanoOfDay < 0 || nanoOfDay > LocalTime.MAX.toNanoOfDay()) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            return LocalTime.ofNanoOfDay(nanoOfDay).toString();
+        }
+
+        private int readCount() throws IOException, IllegalValueException {
+            int count = in.readInt();
+            if (count < 0) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            return count;
+        }
+
+        private String readString() throws IOException, IllegalValueException {
+            int index = in.readInt();
+            if (index == NULL_STRING) {
+                return null;
+            }
+            if (index != NEW_STRING) {
+                if (index < 0 || index >= strings.size()) {
+                    throw new IllegalValueException(MESSAGE_CORRUPTED);
+                }
+                return strings.get(index);
+            }
+            int remaining = readCount();
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(Math.min(remaining, CHUNK_SIZE));
+            byte[] chunk = new byte[Math.min(remaining, CHUNK_SIZE)];
+            while (remaining > 0) {
+                int size = Math.min(remaining, chunk.length);
+                in.readFully(chunk, 0, size);
+                bytes.write(chunk, 0, size);
+                remaining -= size;
+            }
+            String string = bytes.toString(StandardCharsets.UTF_8);
+            strings.add(string);
+            return string;
+        }
+    }
+}
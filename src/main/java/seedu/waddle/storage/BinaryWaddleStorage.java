@@ -0,0 +1,186 @@
+package seedu.waddle.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.waddle.commons.core.LogsCenter;
+import seedu.waddle.commons.exceptions.DataConversionException;
+import seedu.waddle.commons.exceptions.IllegalValueException;
+import seedu.waddle.commons.util.FileUtil;
+import seedu.waddle.model.ReadOnlyWaddle;
+
+/**
+ * A class to access Waddle data stored in the binary format of {@link BinaryWaddleFormat}.
+ * For a json data file {@code data/waddle.json}, the binary data file is {@code data/waddle.bin}.
+ * If there is no binary data file yet, the data is read from the json data file instead.
+ */
+public class BinaryWaddleStorage implements WaddleStorage {
+
+    public static final String BINARY_FILE_EXTENSION = ".bin";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryWaddleStorage.class);
+    private static final String JSON_FILE_EXTENSION = ".json";
+    private static final String TEMP_FILE_EXTENSION = ".tmp";
+
+    private final Path jsonFilePath;
+    private final Path filePath;
+    private final boolean isLazy;
+
+    /**
+     * Creates a {@code BinaryWaddleStorage} in place of the json data file at {@code jsonFilePath}.
+     */
+    public BinaryWaddleStorage(Path jsonFilePath) {
+        this(jsonFilePath, false);
+    }
+
+    /**
+     * Creates a {@code BinaryWaddleStorage} in place of the json data file at {@code jsonFilePath}.
+     *
+     * @param isLazy if true, the days and items of each itinerary read are converted only when first needed.
+     */
+    public BinaryWaddleStorage(Path jsonFilePath, boolean isLazy) {
+        requireNonNull(jsonFilePath);
+        this.jsonFilePath = jsonFilePath;
+        this.filePath = getBinaryFilePath(jsonFilePath);
+        this.isLazy = isLazy;
+    }
+
+    /**
+     * Returns the path of the binary data file.
+     */
+    @Override
+    public Path getWaddleFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyWaddle> readWaddle() throws DataConversionException, IOException {
+        return readWaddle(filePath);
+    }
+
+    /**
+     * Similar to {@link #readWaddle()}.
+     *
+     * @param filePath location of the binary data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyWaddle> readWaddle(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (filePath.equals(this.filePath) && !Files.exists(filePath)) {
+            logger.info("Binary data file " + filePath + " not found, reading " + jsonFilePath + " instead");
+            return new JsonWaddleStorage(jsonFilePath, false, isLazy).readWaddle();
+        }
+        Optional<JsonSerializableWaddle> binaryWaddle = readBinaryFile(filePath);
+        if (binaryWaddle.isEmpty()) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(binaryWaddle.get().toModelType(isLazy));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveWaddle(ReadOnlyWaddle waddle) throws IOException {
+        saveWaddle(waddle, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveWaddle(ReadOnlyWaddle)}.
+     * The file is replaced only once the new data is completely written.
+     *
+     * @param filePath location of the binary data. Cannot be null.
+     */
+    @Override
+    public void saveWaddle(ReadOnlyWaddle waddle, Path filePath) throws IOException {
+        requireNonNull(waddle);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempPath = filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_EXTENSION);
+        try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(tempPath))) {
+            BinaryWaddleFormat.write(waddle, outputStream);
+        }
+        FileUtil.moveReplacing(tempPath, filePath);
+    }
+
+    @Override
+    public void flush() {
+        // every save is written before it returns
+    }
+
+    /**
+     * Converts the binary data file at {@code binaryFilePath} to a json data file at {@code jsonFilePath}.
+     * The data is converted as stored, without checking it against the constraints of the model.
+     * The json data file is replaced only once the new data is completely written.
+     *
+     * @return false if there is no file at {@code binaryFilePath}.
+     * @throws DataConversionException if the binary data file is not in the correct format.
+     */
+    public static boolean convertToJson(Path binaryFilePath, Path jsonFilePath)
+            throws DataConversionException, IOException {
+        requireNonNull(binaryFilePath);
+        requireNonNull(jsonFilePath);
+
+        Optional<JsonSerializableWaddle> binaryWaddle = readBinaryFile(binaryFilePath);
+        if (binaryWaddle.isEmpty()) {
+            return false;
+        }
+        new JsonWaddleStorage(jsonFilePath).saveSnapshot(binaryWaddle.get(), jsonFilePath);
+        return true;
+    }
+
+    /**
+     * Converts the json data file at {@code jsonFilePath} to a binary data file at {@code binaryFilePath}.
+     *
+     * @return false if there is no file at {@code jsonFilePath}.
+     * @throws DataConversionException if the json data file is not in the correct format.
+     */
+    public static boolean convertFromJson(Path jsonFilePath, Path binaryFilePath)
+            throws DataConversionException, IOException {
+        requireNonNull(jsonFilePath);
+        requireNonNull(binaryFilePath);
+
+        Optional<ReadOnlyWaddle> waddle = new JsonWaddleStorage(jsonFilePath).readWaddle();
+        if (waddle.isEmpty()) {
+            return false;
+        }
+        new BinaryWaddleStorage(jsonFilePath).saveWaddle(waddle.get(), binaryFilePath);
+        return true;
+    }
+
+    private static Optional<JsonSerializableWaddle> readBinaryFile(Path filePath)
+            throws DataConversionException, IOException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(filePath))) {
+            return Optional.of(BinaryWaddleFormat.read(inputStream));
+        }
+    }
+
+    /**
+     * Returns the path of the binary data file that replaces the json data file at {@code jsonFilePath}.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        String baseName = fileName.endsWith(JSON_FILE_EXTENSION)
+                ? fileName.substring(0, fileName.length() - JSON_FILE_EXTENSION.length())
+                : fileName;
+        return jsonFilePath.resolveSibling(baseName + BINARY_FILE_EXTENSION);
+    }
+}
@@ -0,0 +1,251 @@
+package seedu.waddle.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.waddle.commons.core.LogsCenter;
+import seedu.waddle.commons.exceptions.DataConversionException;
+import seedu.waddle.commons.exceptions.IllegalValueException;
+import seedu.waddle.commons.util.FileUtil;
+import seedu.waddle.commons.util.JsonUtil;
+import seedu.waddle.model.ReadOnlyWaddle;
+import seedu.waddle.model.itinerary.Itinerary;
+
+/**
+ * A class to access Waddle data stored as a json snapshot file and a journal of changes since the snapshot.
+ * Each save appends one line to the journal holding only the itineraries that changed since the last save,
+ * so the cost of a save depends on the size of the change rather than the size of all data.
+ * Once the journal grows larger than the snapshot, it is compacted into a new snapshot.
+ * The data is read by replaying the journal on top of the snapshot.
+ */
+public class JournalWaddleStorage implements WaddleStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalWaddleStorage.class);
+    private static final long MIN_COMPACTION_BYTES = 64 * 1024;
+
+    private final Path filePath;
+    private final Path journalPath;
+    private final JsonWaddleStorage snapshotStorage;
+    private final boolean isLazy;
+    // versions of the itineraries as last saved, by identity
+    private final Map<Itinerary, Long> savedVersions = new IdentityHashMap<>();
+    // descriptions of the itineraries as last saved, in order; null before the first save
+    private List<String> savedOrder;
+
+    /**
+     * Creates a {@code JournalWaddleStorage} with its snapshot at {@code filePath}.
+     * The journal is kept next to the snapshot.
+     */
+    public JournalWaddleStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JournalWaddleStorage} with its snapshot at {@code filePath}.
+     *
+     * @param isCompact if true, the snapshot is written without line breaks and indentation.
+     */
+    public JournalWaddleStorage(Path filePath, boolean isCompact) {
+        this(filePath, isCompact, false);
+    }
+
+    /**
+     * Creates a {@code JournalWaddleStorage} with its snapshot at {@code filePath}.
+     *
+     * @param isCompact if true, the snapshot is written without line breaks and indentation.
+     * @param isLazy if true, the days and items of each itinerary read are converted only when first needed.
+     */
+    public JournalWaddleStorage(Path filePath, boolean isCompact, boolean isLazy) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.journalPath = getJournalPath(filePath);
+        this.snapshotStorage = new JsonWaddleStorage(filePath, isCompact);
+        this.isLazy = isLazy;
+    }
+
+    @Override
+    public Path getWaddleFilePath() {
+        return filePath;
+    }
+
+    public Path getJournalFilePath() {
+        return journalPath;
+    }
+
+    @Override
+    public Optional<ReadOnlyWaddle> readWaddle() throws DataConversionException, IOException {
+        return readWaddle(filePath);
+    }
+
+    /**
+     * Similar to {@link #readWaddle()}.
+     * The journal of the snapshot at {@code filePath}, if any, is replayed on top of it.
+     * A last journal line that cannot be read is assumed to be an interrupted write and is skipped.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyWaddle> readWaddle(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        try {
+            Optional<JsonSerializableWaddle> jsonWaddle = readJournaled(filePath);
+            if (jsonWaddle.isEmpty()) {
+                return Optional.empty();
+            }
+            return Optional.of(jsonWaddle.get().toModelType(isLazy));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Returns the data of the snapshot at {@code filePath} with its journal, if any, replayed on top of it.
+     */
+    private static Optional<JsonSerializableWaddle> readJournaled(Path filePath)
+            throws IOException, DataConversionException, IllegalValueException {
+        Path journal = getJournalPath(filePath);
+        Optional<JsonSerializableWaddle> snapshot = JsonUtil.readJsonFile(filePath, JsonSerializableWaddle.class);
+        if (snapshot.isEmpty() && !Files.exists(journal)) {
+            return Optional.empty();
+        }
+
+        LinkedHashMap<String, JsonAdaptedItinerary> state = new LinkedHashMap<>();
+        if (snapshot.isPresent()) {
+            for (JsonAdaptedItinerary itinerary : snapshot.get().getItineraries()) {
+                state.put(itinerary.getDescription(), itinerary);
+            }
+        }
+        replayJournal(journal, state);
+        return Optional.of(new JsonSerializableWaddle(new ArrayList<>(state.values())));
+    }
+
+    private static void replayJournal(Path journal, LinkedHashMap<String, JsonAdaptedItinerary> state)
+            throws IOException, DataConversionException, IllegalValueException {
+        if (!Files.exists(journal)) {
+            return;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(journal, StandardCharsets.UTF_8)) {
+            int lineNumber = 0;
+            String line = reader.readLine();
+            while (line != null) {
+                lineNumber++;
+                String nextLine = reader.readLine();
+                if (!line.isBlank()) {
+                    JsonJournalRecord record;
+                    try {
+                        record = JsonUtil.fromJsonString(line, JsonJournalRecord.class);
+                    } catch (IOException e) {
+                        if (nextLine != null) {
+                            throw new DataConversionException(e);
+                        }
+                        logger.warning("Skipping incomplete last record in " + journal + " at line " + lineNumber);
+                        break;
+                    }
+                    record.applyTo(state);
+                }
+                line = nextLine;
+            }
+        }
+    }
+
+    @Override
+    public void saveWaddle(ReadOnlyWaddle waddle) throws IOException {
+        saveWaddle(waddle, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveWaddle(ReadOnlyWaddle)}.
+     * Saves to any file other than the snapshot of this storage are written as a full json file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveWaddle(ReadOnlyWaddle waddle, Path filePath) throws IOException {
+        requireNonNull(waddle);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            snapshotStorage.saveWaddle(waddle, filePath);
+            return;
+        }
+
+        boolean isFirstSave = savedOrder == null;
+        List<String> order = new ArrayList<>();
+        List<JsonAdaptedItinerary> changedItineraries = new ArrayList<>();
+        Map<Itinerary, Long> versions = new IdentityHashMap<>();
+        for (Itinerary itinerary : waddle.getItineraryList()) {
+            order.add(itinerary.getDescription().description);
+            long version = itinerary.getVersion();
+            Long savedVersion = savedVersions.get(itinerary);
+            if (savedVersion == null || savedVersion != version) {
+                changedItineraries.add(new JsonAdaptedItinerary(itinerary));
+            }
+            versions.put(itinerary, version);
+        }
+        boolean isOrderChanged = !order.equals(savedOrder);
+
+        // every change is journaled before any compaction, so that the snapshot never gets ahead of the journal
+        if (isOrderChanged || !changedItineraries.isEmpty()) {
+            appendRecord(new JsonJournalRecord(isOrderChanged ? order : null, changedItineraries));
+        }
+        savedVersions.clear();
+        savedVersions.putAll(versions);
+        savedOrder = order;
+
+        if (isFirstSave || isCompactionDue()) {
+            compact(waddle);
+        }
+    }
+
+    @Override
+    public void flush() {
+        // every save is written before it returns
+    }
+
+    private void appendRecord(JsonJournalRecord record) throws IOException {
+        FileUtil.createParentDirsOfFile(journalPath);
+        String line = JsonUtil.toCompactJsonString(record) + System.lineSeparator();
+        Files.write(journalPath, line.getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.SYNC);
+    }
+
+    private boolean isCompactionDue() throws IOException {
+        long journalSize = Files.exists(journalPath) ? Files.size(journalPath) : 0;
+        long snapshotSize = Files.exists(filePath) ? Files.size(filePath) : 0;
+        return journalSize > Math.max(MIN_COMPACTION_BYTES, snapshotSize);
+    }
+
+    /**
+     * Replaces the snapshot with {@code waddle} and empties the journal.
+     * The journal must already end in the state of {@code waddle}, so that replaying it on top of the new
+     * snapshot after a crash between the two steps still gives the same data.
+     */
+    private void compact(ReadOnlyWaddle waddle) throws IOException {
+        logger.fine("Compacting journal " + journalPath + " into " + filePath);
+        // the snapshot is written to a temporary file and moved into place, compressed like the snapshot itself
+        snapshotStorage.saveWaddle(waddle, filePath);
+        Files.deleteIfExists(journalPath);
+    }
+
+    private static Path getJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+}
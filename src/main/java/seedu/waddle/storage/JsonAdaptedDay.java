@@ -1,13 +1,13 @@
 package seedu.waddle.storage;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.waddle.commons.exceptions.IllegalValueException;
-import seedu.waddle.logic.commands.exceptions.CommandException;
 import seedu.waddle.model.item.Day;
 import seedu.waddle.model.item.Item;
 
@@ -42,6 +42,25 @@ public class JsonAdaptedDay {
         }
     }
 
+    Integer getDayNumber() {
+        return dayNumber;
+    }
+
+    List<JsonAdaptedItem> getItems() {
+        return items;
+    }
+
+    /**
+     * Returns the total cost in cents of the items of this day, ignoring any cost that is not valid.
+     */
+    long getSpending() {
+        long spending = 0;
+        for (JsonAdaptedItem item : items) {
+            spending += item.getCents();
+        }
+        return spending;
+    }
+
     /**
      * Converts this Jackson-friendly adapted item object into the model's {@code Item} object.
      *
@@ -55,15 +74,16 @@ public class JsonAdaptedDay {
         }
         final int modelDayNumber = dayNumber;
 
-        Day day = new Day(modelDayNumber);
+        final List<Item> modelItems = new ArrayList<>(items.size());
         for (JsonAdaptedItem jsonAdaptedItem : items) {
-            Item item = jsonAdaptedItem.toModelType();
-            try {
-                day.addItem(item);
-            } catch (CommandException e) {
-                throw new IllegalValueException(String.format(MESSAGE_CLASHING_ITEMS, modelDayNumber));
-            }
+            modelItems.add(jsonAdaptedItem.toModelType());
+        }
+        // items are saved in order, which the sort leaves as is in linear time, but a hand-edited file may not be
+        modelItems.sort(Comparator.comparing(Item::getStartTime, Comparator.nullsFirst(Comparator.naturalOrder())));
+        if (!Day.isValidSchedule(modelItems)) {
+            throw new IllegalValueException(String.format(MESSAGE_CLASHING_ITEMS, modelDayNumber));
         }
+        Day day = new Day(modelDayNumber, modelItems);
 
         return day;
     }
@@ -5,8 +5,8 @@ import java.time.LocalTime;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
-import seedu.waddle.commons.core.Text;
 import seedu.waddle.commons.exceptions.IllegalValueException;
+import seedu.waddle.commons.util.MoneyUtil;
 import seedu.waddle.model.item.Cost;
 import seedu.waddle.model.item.Duration;
 import seedu.waddle.model.item.Item;
@@ -48,7 +48,7 @@ public class JsonAdaptedItem {
     public JsonAdaptedItem(Item source) {
         description = source.getDescription().description;
         stars = source.getPriority().getValue();
-        cost = Text.MONEY_SAVE_FORMATTER.format(source.getCost().getValue());
+        cost = source.getCost().toString();
         duration = source.getDuration().toString();
         if (source.getStartTime() == null) {
             startTime = null;
@@ -57,6 +57,33 @@ public class JsonAdaptedItem {
         }
     }
 
+    String getDescription() {
+        return description;
+    }
+
+    Integer getPriority() {
+        return stars;
+    }
+
+    String getCost() {
+        return cost;
+    }
+
+    String getDuration() {
+        return duration;
+    }
+
+    String getStartTime() {
+        return startTime;
+    }
+
+    /**
+     * Returns the cost of this item in cents, or 0 if the cost is missing or not valid.
+     */
+    long getCents() {
+        return cost != null && Cost.isValidCost(cost) ? MoneyUtil.parseCents(cost) : 0;
+    }
+
     /**
      * Converts this Jackson-friendly adapted item object into the model's {@code Item} object.
      *
@@ -2,27 +2,30 @@ package seedu.waddle.storage;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
-import seedu.waddle.commons.core.Text;
 import seedu.waddle.commons.exceptions.IllegalValueException;
 import seedu.waddle.model.item.Day;
 import seedu.waddle.model.item.Item;
+import seedu.waddle.model.item.UniqueItemList;
 import seedu.waddle.model.item.exceptions.DuplicateItemException;
 import seedu.waddle.model.itinerary.Budget;
 import seedu.waddle.model.itinerary.Country;
 import seedu.waddle.model.itinerary.Date;
 import seedu.waddle.model.itinerary.Description;
 import seedu.waddle.model.itinerary.Itinerary;
+import seedu.waddle.model.itinerary.ItineraryContents;
 import seedu.waddle.model.itinerary.ItineraryDuration;
 import seedu.waddle.model.itinerary.People;
 
 /**
  * Jackson-friendly version of {@link Itinerary}.
+ * Also holds the days and items of an itinerary converted by {@link #toLazyModelType()} until they are loaded.
  */
-class JsonAdaptedItinerary {
+class JsonAdaptedItinerary implements ItineraryContents {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Itinerary's %s field is missing!";
     public static final String MESSAGE_DUPLICATE_ITEM = "Item list contains duplicate items.";
@@ -69,7 +72,15 @@ class JsonAdaptedItinerary {
         startDate = source.getStartDate().date.toString();
         duration = source.getDuration().toString();
         people = source.getPeople().numOfPeople;
-        budget = Text.MONEY_SAVE_FORMATTER.format(source.getBudget().getValue());
+        budget = source.getBudget().toString();
+        Optional<ItineraryContents> unloadedContents = source.getUnloadedContents();
+        if (unloadedContents.isPresent() && unloadedContents.get() instanceof JsonAdaptedItinerary) {
+            // days and items that were never loaded are saved as they were read
+            JsonAdaptedItinerary unloadedItinerary = (JsonAdaptedItinerary) unloadedContents.get();
+            items.addAll(unloadedItinerary.items);
+            days.addAll(unloadedItinerary.days);
+            return;
+        }
         for (Item item : source.getItemList()) {
             items.add(new JsonAdaptedItem(item));
         }
@@ -78,13 +89,44 @@ class JsonAdaptedItinerary {
         }
     }
 
+    String getDescription() {
+        return description;
+    }
+
+    List<JsonAdaptedItem> getItems() {
+        return items;
+    }
+
+    List<JsonAdaptedDay> getDays() {
+        return days;
+    }
+
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
     public Itinerary toModelType() throws IllegalValueException {
+        checkDetails();
+        Itinerary itinerary = new Itinerary(new Description(description), new Country(country), new Date(startDate),
+                new ItineraryDuration(duration), new People(people), new Budget(budget));
+        loadInto(itinerary);
+        return itinerary;
+    }
+
+    /**
+     * Converts only the details of this itinerary into the model's {@code Itinerary} object.
+     * The days and items are converted when the itinerary first needs them.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the details.
+     */
+    public Itinerary toLazyModelType() throws IllegalValueException {
+        checkDetails();
+        return new Itinerary(new Description(description), new Country(country), new Date(startDate),
+                new ItineraryDuration(duration), new People(people), new Budget(budget), this);
+    }
 
+    private void checkDetails() throws IllegalValueException {
         if (description == null) {
             throw new IllegalValueException(String.format(
                     MISSING_FIELD_MESSAGE_FORMAT, Description.class.getSimpleName()));
@@ -132,34 +174,35 @@ class JsonAdaptedItinerary {
         if (!Budget.isValidBudget(budget)) {
             throw new IllegalValueException(Budget.MESSAGE_CONSTRAINTS);
         }
-        final Description modelDescription = new Description(description);
-        final Country modelCountry = new Country(country);
-        final Date modelStartDate = new Date(startDate);
-        final ItineraryDuration modelDuration = new ItineraryDuration(duration);
-        final People modelPeople = new People(people);
-        final Budget modelBudget = new Budget(budget);
-
-        Itinerary itinerary = new Itinerary(modelDescription, modelCountry, modelStartDate, modelDuration,
-                modelPeople, modelBudget);
+    }
 
+    @Override
+    public void loadInto(Itinerary itinerary) throws IllegalValueException {
         final List<Day> modelDays = new ArrayList<>();
-        for (JsonAdaptedDay jsonAdaptedDay : days) {
-            Day day = jsonAdaptedDay.toModelType();
-            modelDays.add(day);
-        }
-        itinerary.setDays(modelDays);
-        itinerary.calculateSpending();
-
-        for (JsonAdaptedItem jsonAdaptedItem : items) {
-            Item item = jsonAdaptedItem.toModelType();
-            try {
-                itinerary.addItem(item);
-            } catch (DuplicateItemException e) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_ITEM);
+        final UniqueItemList modelItems = new UniqueItemList();
+        try {
+            for (JsonAdaptedDay jsonAdaptedDay : days) {
+                modelDays.add(jsonAdaptedDay.toModelType());
+            }
+            itinerary.setDays(modelDays);
+            final List<Item> wishlist = new ArrayList<>(items.size());
+            for (JsonAdaptedItem jsonAdaptedItem : items) {
+                wishlist.add(jsonAdaptedItem.toModelType());
             }
+            modelItems.setItems(wishlist);
+            itinerary.setUnscheduledItems(modelItems);
+        } catch (DuplicateItemException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_ITEM);
         }
+    }
 
-        return itinerary;
+    @Override
+    public long getSpending() {
+        long spending = 0;
+        for (JsonAdaptedDay day : days) {
+            spending += day.getSpending();
+        }
+        return spending;
     }
 
 }
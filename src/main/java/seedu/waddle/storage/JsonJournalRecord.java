@@ -0,0 +1,63 @@
+package seedu.waddle.storage;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.waddle.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly record of one save in a {@link JournalWaddleStorage} journal.
+ * A record holds the itineraries that changed, and the order of the itineraries by description
+ * if the itinerary list itself changed.
+ */
+class JsonJournalRecord {
+
+    public static final String MESSAGE_UNKNOWN_ITINERARY = "Journal refers to an unknown itinerary %1$s.";
+
+    private final List<String> order;
+    private final List<JsonAdaptedItinerary> itineraries = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonJournalRecord} with the given changes.
+     *
+     * @param order       Descriptions of all itineraries in order, or null if the order has not changed.
+     * @param itineraries The itineraries that changed.
+     */
+    @JsonCreator
+    public JsonJournalRecord(@JsonProperty("order") List<String> order,
+                             @JsonProperty("itineraries") List<JsonAdaptedItinerary> itineraries) {
+        this.order = order;
+        if (itineraries != null) {
+            this.itineraries.addAll(itineraries);
+        }
+    }
+
+    /**
+     * Applies the changes in this record to {@code state}, which maps itinerary descriptions to itineraries
+     * in order.
+     *
+     * @throws IllegalValueException if the order refers to an itinerary that does not exist.
+     */
+    public void applyTo(LinkedHashMap<String, JsonAdaptedItinerary> state) throws IllegalValueException {
+        for (JsonAdaptedItinerary itinerary : itineraries) {
+            state.put(itinerary.getDescription(), itinerary);
+        }
+        if (order == null) {
+            return;
+        }
+        Map<String, JsonAdaptedItinerary> previousState = new LinkedHashMap<>(state);
+        state.clear();
+        for (String description : order) {
+            JsonAdaptedItinerary itinerary = previousState.get(description);
+            if (itinerary == null) {
+                throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_ITINERARY, description));
+            }
+            state.put(description, itinerary);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package seedu.waddle.storage;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -12,6 +13,7 @@ import seedu.waddle.commons.exceptions.IllegalValueException;
 import seedu.waddle.model.ReadOnlyWaddle;
 import seedu.waddle.model.Waddle;
 import seedu.waddle.model.itinerary.Itinerary;
+import seedu.waddle.model.itinerary.exceptions.DuplicateItineraryException;
 
 /**
  * An Immutable Waddle that is serializable to JSON format.
@@ -41,21 +43,79 @@ class JsonSerializableWaddle {
                 .collect(Collectors.toList()));
     }
 
+    List<JsonAdaptedItinerary> getItineraries() {
+        return itineraries;
+    }
+
     /**
      * Converts this address book into the model's {@code AddressBook} object.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public Waddle toModelType() throws IllegalValueException {
+        return toModelType(false);
+    }
+
+    /**
+     * Similar to {@link #toModelType()}.
+     * Itineraries are independent of each other, so they are converted in parallel. If any of them is not valid,
+     * the error of the first invalid itinerary in the list is thrown, as if they were converted one by one.
+     *
+     * @param isLazy if true, the days and items of each itinerary are converted only when first needed.
+     */
+    public Waddle toModelType(boolean isLazy) throws IllegalValueException {
+        List<Conversion> conversions = IntStream.range(0, itineraries.size()).parallel()
+                .mapToObj(i -> Conversion.of(itineraries.get(i), isLazy))
+                .collect(Collectors.toList());
+
+        List<Itinerary> modelItineraries = new ArrayList<>(conversions.size());
+        for (Conversion conversion : conversions) {
+            modelItineraries.add(conversion.get());
+        }
+        return toWaddle(modelItineraries);
+    }
+
+    /**
+     * Returns a {@code Waddle} with {@code itineraries} in order, checking them for duplicates in one pass.
+     *
+     * @throws IllegalValueException if two of the itineraries are the same.
+     */
+    static Waddle toWaddle(List<Itinerary> itineraries) throws IllegalValueException {
         Waddle waddle = new Waddle();
-        for (JsonAdaptedItinerary jsonAdaptedItinerary : itineraries) {
-            Itinerary itinerary = jsonAdaptedItinerary.toModelType();
-            if (waddle.hasItinerary(itinerary)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_ITINERARY);
-            }
-            waddle.addItinerary(itinerary);
+        try {
+            waddle.setItineraries(itineraries);
+        } catch (DuplicateItineraryException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_ITINERARY);
         }
         return waddle;
     }
 
+    /**
+     * The result of converting one itinerary, which is either the model's itinerary or the error found.
+     */
+    private static class Conversion {
+        private final Itinerary itinerary;
+        private final IllegalValueException error;
+
+        private Conversion(Itinerary itinerary, IllegalValueException error) {
+            this.itinerary = itinerary;
+            this.error = error;
+        }
+
+        static Conversion of(JsonAdaptedItinerary itinerary, boolean isLazy) {
+            try {
+                return new Conversion(isLazy ? itinerary.toLazyModelType() : itinerary.toModelType(), null);
+            } catch (IllegalValueException ive) {
+                return new Conversion(null, ive);
+            }
+        }
+
+        Itinerary get() throws IllegalValueException {
+            if (error != null) {
+                throw error;
+            }
+            return itinerary;
+        }
+    }
+
 }
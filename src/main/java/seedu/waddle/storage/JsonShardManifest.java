@@ -0,0 +1,30 @@
+package seedu.waddle.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly manifest of a {@link ShardedWaddleStorage} directory.
+ * Lists the file of every itinerary, in the order of the itineraries.
+ */
+class JsonShardManifest {
+
+    private final List<String> itineraryFiles = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonShardManifest} with the given itinerary file names.
+     */
+    @JsonCreator
+    public JsonShardManifest(@JsonProperty("itineraryFiles") List<String> itineraryFiles) {
+        if (itineraryFiles != null) {
+            this.itineraryFiles.addAll(itineraryFiles);
+        }
+    }
+
+    public List<String> getItineraryFiles() {
+        return itineraryFiles;
+    }
+}
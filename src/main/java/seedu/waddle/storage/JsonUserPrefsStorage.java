@@ -3,7 +3,9 @@ package seedu.waddle.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.logging.Logger;
 
+import seedu.waddle.commons.core.LogsCenter;
 import seedu.waddle.commons.exceptions.DataConversionException;
 import seedu.waddle.commons.util.JsonUtil;
 import seedu.waddle.model.ReadOnlyUserPrefs;
@@ -14,6 +16,8 @@ import seedu.waddle.model.UserPrefs;
  */
 public class JsonUserPrefsStorage implements UserPrefsStorage {
 
+    private static final Logger logger = LogsCenter.getLogger(JsonUserPrefsStorage.class);
+
     private Path filePath;
 
     public JsonUserPrefsStorage(Path filePath) {
@@ -32,11 +36,42 @@ public class JsonUserPrefsStorage implements UserPrefsStorage {
 
     /**
      * Similar to {@link #readUserPrefs()}
+     * Values that are missing or not valid are replaced with their defaults.
      * @param prefsFilePath location of the data. Cannot be null.
      * @throws DataConversionException if the file format is not as expected.
      */
     public Optional<UserPrefs> readUserPrefs(Path prefsFilePath) throws DataConversionException {
-        return JsonUtil.readJsonFile(prefsFilePath, UserPrefs.class);
+        Optional<UserPrefs> userPrefs = JsonUtil.readJsonFile(prefsFilePath, UserPrefs.class);
+        userPrefs.ifPresent(prefs -> replaceInvalidValues(prefs, prefsFilePath));
+        return userPrefs;
+    }
+
+    /**
+     * Replaces the values in {@code userPrefs} that its setters would reject with their defaults.
+     * Prefs are read into their fields directly, so the setters do not check them while reading.
+     */
+    private static void replaceInvalidValues(UserPrefs userPrefs, Path prefsFilePath) {
+        UserPrefs defaults = new UserPrefs();
+        if (userPrefs.getGuiSettings() == null) {
+            logInvalidValue(prefsFilePath, "guiSettings");
+            userPrefs.setGuiSettings(defaults.getGuiSettings());
+        }
+        if (userPrefs.getWaddleFilePath() == null) {
+            logInvalidValue(prefsFilePath, "waddleFilePath");
+            userPrefs.setWaddleFilePath(defaults.getWaddleFilePath());
+        }
+        if (userPrefs.getWaddleStorageType() == null) {
+            logInvalidValue(prefsFilePath, "waddleStorageType");
+            userPrefs.setWaddleStorageType(defaults.getWaddleStorageType());
+        }
+        if (userPrefs.getPdfExportParallelism() < 0) {
+            logInvalidValue(prefsFilePath, "pdfExportParallelism");
+            userPrefs.setPdfExportParallelism(defaults.getPdfExportParallelism());
+        }
+    }
+
+    private static void logInvalidValue(Path prefsFilePath, String name) {
+        logger.warning("Value of " + name + " in " + prefsFilePath + " is missing or not valid. Using the default");
     }
 
     @Override
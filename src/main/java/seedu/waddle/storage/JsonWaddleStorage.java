@@ -20,11 +20,31 @@ import seedu.waddle.model.ReadOnlyWaddle;
 public class JsonWaddleStorage implements WaddleStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonWaddleStorage.class);
+    // a prefix rather than a suffix, so that the temporary file of a .gz file is compressed as well
+    private static final String TEMP_FILE_PREFIX = ".tmp-";
 
     private Path filePath;
+    private final boolean isCompact;
+    private final boolean isLazy;
 
     public JsonWaddleStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    public JsonWaddleStorage(Path filePath, boolean isCompact) {
+        this(filePath, isCompact, false);
+    }
+
+    /**
+     * Creates a {@code JsonWaddleStorage} for the file at {@code filePath}.
+     *
+     * @param isCompact if true, the file is written without line breaks and indentation.
+     * @param isLazy if true, the days and items of each itinerary read are converted only when first needed.
+     */
+    public JsonWaddleStorage(Path filePath, boolean isCompact, boolean isLazy) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
+        this.isLazy = isLazy;
     }
 
     public Path getWaddleFilePath() {
@@ -52,7 +72,7 @@ public class JsonWaddleStorage implements WaddleStorage {
         }
 
         try {
-            return Optional.of(jsonWaddle.get().toModelType());
+            return Optional.of(jsonWaddle.get().toModelType(isLazy));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -73,8 +93,26 @@ public class JsonWaddleStorage implements WaddleStorage {
         requireNonNull(waddle);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableWaddle(waddle), filePath);
+        saveSnapshot(new JsonSerializableWaddle(waddle), filePath);
+    }
+
+    /**
+     * Writes a snapshot of Waddle data that was taken earlier to {@code filePath}.
+     * The file is replaced only once the new data is completely written, so that it is never left half-written.
+     */
+    void saveSnapshot(JsonSerializableWaddle snapshot, Path filePath) throws IOException {
+        requireNonNull(snapshot);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempPath = filePath.resolveSibling(TEMP_FILE_PREFIX + filePath.getFileName());
+        JsonUtil.saveJsonFile(snapshot, tempPath, isCompact);
+        FileUtil.moveReplacing(tempPath, filePath);
+    }
+
+    @Override
+    public void flush() {
+        // every save is written before it returns
     }
 
 }
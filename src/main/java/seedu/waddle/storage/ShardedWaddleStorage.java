@@ -0,0 +1,300 @@
+package seedu.waddle.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+import seedu.waddle.commons.core.LogsCenter;
+import seedu.waddle.commons.exceptions.DataConversionException;
+import seedu.waddle.commons.exceptions.IllegalValueException;
+import seedu.waddle.commons.util.FileUtil;
+import seedu.waddle.commons.util.JsonUtil;
+import seedu.waddle.model.ReadOnlyWaddle;
+import seedu.waddle.model.Waddle;
+import seedu.waddle.model.itinerary.Itinerary;
+
+/**
+ * A class to access Waddle data stored as a directory with one json file per itinerary and a manifest.
+ * For a data file {@code data/waddle.json}, the directory is {@code data/waddle/}.
+ * Each save rewrites only the files of the itineraries that changed since the last save, and the manifest
+ * only if the itinerary list itself changed. Itinerary files are read in parallel.
+ * If there is no manifest yet, the data is read from the single json data file it replaces.
+ */
+public class ShardedWaddleStorage implements WaddleStorage {
+
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+    public static final String MESSAGE_MISSING_ITINERARY_FILE = "Itinerary file %1$s is missing.";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedWaddleStorage.class);
+    private static final String JSON_FILE_EXTENSION = ".json";
+    private static final String TEMP_FILE_EXTENSION = ".tmp";
+    private static final int MAX_FILE_NAME_PREFIX_LENGTH = 40;
+
+    private final Path jsonFilePath;
+    private final Path manifestPath;
+    private final boolean isCompact;
+    private final boolean isLazy;
+    // versions of the itineraries as last saved or read, by identity
+    private final Map<Itinerary, Long> savedVersions = new IdentityHashMap<>();
+    // files of the itineraries as last saved or read, by identity
+    private final Map<Itinerary, String> savedFileNames = new IdentityHashMap<>();
+    // itinerary files listed in the manifest as last saved or read
+    private List<String> savedFiles = new ArrayList<>();
+
+    /**
+     * Creates a {@code ShardedWaddleStorage} in place of the single json data file at {@code jsonFilePath}.
+     */
+    public ShardedWaddleStorage(Path jsonFilePath) {
+        this(jsonFilePath, false);
+    }
+
+    /**
+     * Creates a {@code ShardedWaddleStorage} in place of the single json data file at {@code jsonFilePath}.
+     *
+     * @param isCompact if true, the files are written without line breaks and indentation.
+     */
+    public ShardedWaddleStorage(Path jsonFilePath, boolean isCompact) {
+        this(jsonFilePath, isCompact, false);
+    }
+
+    /**
+     * Creates a {@code ShardedWaddleStorage} in place of the single json data file at {@code jsonFilePath}.
+     *
+     * @param isCompact if true, the files are written without line breaks and indentation.
+     * @param isLazy if true, the days and items of each itinerary read are converted only when first needed.
+     */
+    public ShardedWaddleStorage(Path jsonFilePath, boolean isCompact, boolean isLazy) {
+        requireNonNull(jsonFilePath);
+        this.jsonFilePath = jsonFilePath;
+        this.manifestPath = getManifestPath(jsonFilePath);
+        this.isCompact = isCompact;
+        this.isLazy = isLazy;
+    }
+
+    /**
+     * Returns the path of the manifest, which identifies the data of this storage.
+     */
+    @Override
+    public Path getWaddleFilePath() {
+        return manifestPath;
+    }
+
+    @Override
+    public Optional<ReadOnlyWaddle> readWaddle() throws DataConversionException, IOException {
+        return readWaddle(manifestPath);
+    }
+
+    /**
+     * Similar to {@link #readWaddle()}.
+     *
+     * @param manifestPath location of the manifest. Cannot be null.
+     * @throws DataConversionException if the manifest or any itinerary file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyWaddle> readWaddle(Path manifestPath) throws DataConversionException, IOException {
+        requireNonNull(manifestPath);
+
+        Optional<JsonShardManifest> manifest = JsonUtil.readJsonFile(manifestPath, JsonShardManifest.class);
+        if (manifest.isEmpty()) {
+            if (manifestPath.equals(this.manifestPath)) {
+                logger.info("Manifest " + manifestPath + " not found, reading " + jsonFilePath + " instead");
+                return new JsonWaddleStorage(jsonFilePath, false, isLazy).readWaddle();
+            }
+            return Optional.empty();
+        }
+
+        List<String> files = manifest.get().getItineraryFiles();
+        Waddle waddle;
+        try {
+            waddle = JsonSerializableWaddle.toWaddle(readItineraries(manifestPath.getParent(), files));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + manifestPath.getParent() + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+
+        if (manifestPath.equals(this.manifestPath)) {
+            // the read itineraries are what is on disk, so they need not be written again until they change
+            savedVersions.clear();
+            savedFileNames.clear();
+            List<Itinerary> itineraries = waddle.getItineraryList();
+            for (int i = 0; i < itineraries.size(); i++) {
+                savedVersions.put(itineraries.get(i), itineraries.get(i).getVersion());
+                savedFileNames.put(itineraries.get(i), files.get(i));
+            }
+            savedFiles = new ArrayList<>(files);
+        }
+        return Optional.of(waddle);
+    }
+
+    /**
+     * Reads and converts the itinerary files in parallel.
+     * If any file cannot be read or converted, the error of the first such file in {@code files} is thrown.
+     */
+    private List<Itinerary> readItineraries(Path directory, List<String> files)
+            throws DataConversionException, IllegalValueException {
+        Object[] results = new Object[files.size()];
+        IntStream.range(0, files.size()).parallel().forEach(i -> {
+            try {
+                results[i] = readItinerary(directory.resolve(files.get(i)));
+            } catch (DataConversionException | IllegalValueException e) {
+                results[i] = e;
+            }
+        });
+
+        List<Itinerary> itineraries = new ArrayList<>();
+        for (Object result : results) {
+            if (result instanceof DataConversionException) {
+                throw (DataConversionException) result;
+            }
+            if (result instanceof IllegalValueException) {
+                throw (IllegalValueException) result;
+            }
+            itineraries.add((Itinerary) result);
+        }
+        return itineraries;
+    }
+
+    private Itinerary readItinerary(Path file) throws DataConversionException, IllegalValueException {
+        Optional<JsonAdaptedItinerary> itinerary = JsonUtil.readJsonFile(file, JsonAdaptedItinerary.class);
+        if (itinerary.isEmpty()) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_ITINERARY_FILE, file.getFileName()));
+        }
+        return isLazy ? itinerary.get().toLazyModelType() : itinerary.get().toModelType();
+    }
+
+    @Override
+    public void saveWaddle(ReadOnlyWaddle waddle) throws IOException {
+        saveWaddle(waddle, manifestPath);
+    }
+
+    /**
+     * Similar to {@link #saveWaddle(ReadOnlyWaddle)}.
+     * All itinerary files are written for a manifest other than the one of this storage.
+     *
+     * @param manifestPath location of the manifest. Cannot be null.
+     */
+    @Override
+    public void saveWaddle(ReadOnlyWaddle waddle, Path manifestPath) throws IOException {
+        requireNonNull(waddle);
+        requireNonNull(manifestPath);
+
+        boolean isOwnManifest = manifestPath.equals(this.manifestPath);
+        Path directory = manifestPath.getParent();
+        Files.createDirectories(directory);
+
+        List<Itinerary> itineraries = waddle.getItineraryList();
+        List<String> files = getItineraryFileNames(itineraries, isOwnManifest);
+        Map<Itinerary, Long> versions = new IdentityHashMap<>();
+        Map<Itinerary, String> fileNames = new IdentityHashMap<>();
+        for (int i = 0; i < itineraries.size(); i++) {
+            Itinerary itinerary = itineraries.get(i);
+            String file = files.get(i);
+            long version = itinerary.getVersion();
+            Long savedVersion = isOwnManifest ? savedVersions.get(itinerary) : null;
+            if (savedVersion == null || savedVersion != version || !file.equals(savedFileNames.get(itinerary))) {
+                writeAtomically(new JsonAdaptedItinerary(itinerary), directory.resolve(file));
+            }
+            versions.put(itinerary, version);
+            fileNames.put(itinerary, file);
+        }
+
+        if (!isOwnManifest) {
+            writeAtomically(new JsonShardManifest(files), manifestPath);
+            return;
+        }
+        if (!files.equals(savedFiles) || !Files.exists(manifestPath)) {
+            writeAtomically(new JsonShardManifest(files), manifestPath);
+        }
+        // files are removed only once the manifest no longer refers to them
+        Set<String> currentFiles = new HashSet<>(files);
+        for (String savedFile : savedFiles) {
+            if (!currentFiles.contains(savedFile)) {
+                Files.deleteIfExists(directory.resolve(savedFile));
+            }
+        }
+        savedVersions.clear();
+        savedVersions.putAll(versions);
+        savedFileNames.clear();
+        savedFileNames.putAll(fileNames);
+        savedFiles = files;
+    }
+
+    /**
+     * Returns a distinct file name for each of {@code itineraries}, in order.
+     * Itineraries keep the files they were last saved or read from if {@code isOwnManifest}, so that a saved file
+     * never ends up holding another itinerary. Other itineraries get the name made from their description, with
+     * a number added if another itinerary already has that name.
+     */
+    private List<String> getItineraryFileNames(List<Itinerary> itineraries, boolean isOwnManifest) {
+        String[] files = new String[itineraries.size()];
+        Set<String> usedFiles = new HashSet<>();
+        if (isOwnManifest) {
+            for (int i = 0; i < files.length; i++) {
+                String savedFile = savedFileNames.get(itineraries.get(i));
+                if (savedFile != null && usedFiles.add(savedFile)) {
+                    files[i] = savedFile;
+                }
+            }
+        }
+        for (int i = 0; i < files.length; i++) {
+            if (files[i] != null) {
+                continue;
+            }
+            String file = getItineraryFileName(itineraries.get(i));
+            String baseName = file.substring(0, file.length() - JSON_FILE_EXTENSION.length());
+            for (int number = 2; !usedFiles.add(file); number++) {
+                file = baseName + "-" + number + JSON_FILE_EXTENSION;
+            }
+            files[i] = file;
+        }
+        return List.of(files);
+    }
+
+    @Override
+    public void flush() {
+        // every save is written before it returns
+    }
+
+    private void writeAtomically(Object jsonObject, Path file) throws IOException {
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_EXTENSION);
+        JsonUtil.saveJsonFile(jsonObject, tempFile, isCompact);
+        FileUtil.moveReplacing(tempFile, file);
+    }
+
+    /**
+     * Returns the name of the file of {@code itinerary}, made from its description.
+     * The hash of the exact description keeps names distinct for descriptions that differ only in letter case
+     * or punctuation in most cases, but two descriptions can still get the same name, which
+     * {@link #saveWaddle(ReadOnlyWaddle, Path)} resolves.
+     */
+    static String getItineraryFileName(Itinerary itinerary) {
+        String description = itinerary.getDescription().description;
+        String prefix = description.replaceAll("[^A-Za-z0-9]+", "-");
+        if (prefix.length() > MAX_FILE_NAME_PREFIX_LENGTH) {
+            prefix = prefix.substring(0, MAX_FILE_NAME_PREFIX_LENGTH);
+        }
+        return prefix + "-" + Integer.toHexString(description.hashCode()) + JSON_FILE_EXTENSION;
+    }
+
+    /**
+     * Returns the path of the manifest that replaces the single json data file at {@code jsonFilePath}.
+     */
+    static Path getManifestPath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        String directoryName = fileName.endsWith(JSON_FILE_EXTENSION)
+                ? fileName.substring(0, fileName.length() - JSON_FILE_EXTENSION.length())
+                : fileName + ".d";
+        return jsonFilePath.resolveSibling(directoryName).resolve(MANIFEST_FILE_NAME);
+    }
+}
@@ -75,4 +75,10 @@ public class StorageManager implements Storage {
         waddleStorage.saveWaddle(waddle, filePath);
     }
 
+    @Override
+    public void flush() throws IOException {
+        logger.fine("Waiting for pending writes to data file: " + waddleStorage.getWaddleFilePath());
+        waddleStorage.flush();
+    }
+
 }
@@ -43,4 +43,10 @@ public interface WaddleStorage {
      */
     void saveWaddle(ReadOnlyWaddle waddle, Path filePath) throws IOException;
 
+    /**
+     * Blocks until every save requested so far has been written.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void flush() throws IOException;
+
 }
@@ -0,0 +1,132 @@
+package seedu.waddle.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+import seedu.waddle.commons.core.LogsCenter;
+import seedu.waddle.commons.exceptions.DataConversionException;
+import seedu.waddle.commons.util.StringUtil;
+import seedu.waddle.model.ReadOnlyWaddle;
+
+/**
+ * Wraps a {@link JsonWaddleStorage} so that saves to its data file are written on a background thread.
+ * Each save takes a snapshot of the data on the calling thread, so that later changes do not leak into it,
+ * and leaves formatting the snapshot and writing the file to the background writer.
+ * Saves requested while the writer is busy replace each other, so that a burst of saves results in one write
+ * of the latest snapshot.
+ * A failed write is reported by the next save or {@link #flush()}.
+ */
+public class WriteBehindWaddleStorage implements WaddleStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindWaddleStorage.class);
+
+    private final JsonWaddleStorage jsonStorage;
+    private final ExecutorService writer;
+    private final AtomicReference<JsonSerializableWaddle> pendingSnapshot = new AtomicReference<>();
+    private final AtomicReference<IOException> writeFailure = new AtomicReference<>();
+
+    /**
+     * Creates a {@code WriteBehindWaddleStorage} that writes to the data file of {@code jsonStorage}.
+     */
+    public WriteBehindWaddleStorage(JsonWaddleStorage jsonStorage) {
+        requireNonNull(jsonStorage);
+        this.jsonStorage = jsonStorage;
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "waddle-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public Path getWaddleFilePath() {
+        return jsonStorage.getWaddleFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyWaddle> readWaddle() throws DataConversionException {
+        return jsonStorage.readWaddle();
+    }
+
+    @Override
+    public Optional<ReadOnlyWaddle> readWaddle(Path filePath) throws DataConversionException {
+        return jsonStorage.readWaddle(filePath);
+    }
+
+    @Override
+    public void saveWaddle(ReadOnlyWaddle waddle) throws IOException {
+        saveWaddle(waddle, getWaddleFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveWaddle(ReadOnlyWaddle)}.
+     * Saves to any file other than the data file are written before this method returns.
+     *
+     * @throws IOException if an earlier write to the data file failed, or if this save to another file failed.
+     */
+    @Override
+    public void saveWaddle(ReadOnlyWaddle waddle, Path filePath) throws IOException {
+        requireNonNull(waddle);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getWaddleFilePath())) {
+            jsonStorage.saveWaddle(waddle, filePath);
+            return;
+        }
+
+        if (pendingSnapshot.getAndSet(new JsonSerializableWaddle(waddle)) == null) {
+            writer.execute(this::writePendingSnapshot);
+        }
+        throwWriteFailure();
+    }
+
+    /**
+     * Blocks until the background writer has written every snapshot saved so far, however long that takes,
+     * as the writer thread does not keep the application running.
+     *
+     * @throws IOException if any write since the last reported failure failed.
+     * @throws InterruptedIOException if interrupted while waiting, in which case the latest data may not be
+     *     written yet.
+     */
+    @Override
+    public void flush() throws IOException {
+        try {
+            writer.submit(this::writePendingSnapshot).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the data file to be written");
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to write data file", e.getCause());
+        }
+        throwWriteFailure();
+    }
+
+    private void writePendingSnapshot() {
+        JsonSerializableWaddle snapshot = pendingSnapshot.getAndSet(null);
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            jsonStorage.saveSnapshot(snapshot, getWaddleFilePath());
+        } catch (IOException ioe) {
+            logger.warning("Failed to write data file: " + StringUtil.getDetails(ioe));
+            writeFailure.set(ioe);
+        }
+    }
+
+    private void throwWriteFailure() throws IOException {
+        IOException failure = writeFailure.getAndSet(null);
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package seedu.waddle.ui;
 
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
@@ -14,6 +15,7 @@ import javafx.stage.Stage;
 import seedu.waddle.commons.core.GuiSettings;
 import seedu.waddle.commons.core.LogsCenter;
 import seedu.waddle.logic.Logic;
+import seedu.waddle.logic.PdfExportManager;
 import seedu.waddle.logic.StageManager;
 import seedu.waddle.logic.commands.CommandResult;
 import seedu.waddle.logic.commands.exceptions.CommandException;
@@ -122,6 +124,22 @@ public class MainWindow extends UiPart<Stage> {
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getWaddleFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
+        // exports report from a background thread, so the ui is updated on the application thread
+        PdfExportManager.getInstance().setListener(new PdfExportManager.ExportListener() {
+            @Override
+            public void exportProgressed(String progress) {
+                Platform.runLater(() -> statusBarFooter.setExportStatus(progress));
+            }
+
+            @Override
+            public void exportFinished(String result) {
+                Platform.runLater(() -> {
+                    statusBarFooter.setExportStatus("");
+                    resultDisplay.setFeedbackToUser(result);
+                });
+            }
+        });
+
         CommandBox commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
@@ -1,5 +1,7 @@
 package seedu.waddle.ui;
 
+import static java.util.Objects.requireNonNull;
+
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -16,6 +18,8 @@ public class StatusBarFooter extends UiPart<Region> {
 
     @FXML
     private Label saveLocationStatus;
+    @FXML
+    private Label exportStatus;
 
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
@@ -25,4 +29,12 @@ public class StatusBarFooter extends UiPart<Region> {
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
 
+    /**
+     * Shows the progress of the pdf export in the background, or clears it if {@code progress} is empty.
+     */
+    public void setExportStatus(String progress) {
+        requireNonNull(progress);
+        exportStatus.setText(progress);
+    }
+
 }
@@ -1,11 +1,19 @@
 package seedu.waddle.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import seedu.waddle.testutil.SerializableTestClass;
 import seedu.waddle.testutil.TestUtil;
@@ -17,6 +25,9 @@ public class JsonUtilTest {
 
     private static final Path SERIALIZATION_FILE = TestUtil.getFilePathInSandboxFolder("serialize.json");
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void serializeObjectToJsonFile_noExceptionThrown() throws IOException {
         SerializableTestClass serializableTestClass = new SerializableTestClass();
@@ -39,6 +50,49 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void serializeObjectToJsonFile_compact_sameObjectOnOneLine() throws IOException {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+
+        JsonUtil.serializeObjectToJsonFile(SERIALIZATION_FILE, serializableTestClass, true);
+
+        String json = FileUtil.readFromFile(SERIALIZATION_FILE);
+        assertFalse(json.contains("\n"));
+        assertEquals(JsonUtil.toJsonString(JsonUtil.fromJsonString(json, SerializableTestClass.class)),
+                SerializableTestClass.JSON_STRING_REPRESENTATION);
+    }
+
+    @Test
+    public void serializeObjectToJsonFile_gzipFile_compressedAndReadBack() throws IOException {
+        Path gzipFile = testFolder.resolve("serialize.json.gz");
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+
+        JsonUtil.serializeObjectToJsonFile(gzipFile, serializableTestClass);
+
+        try (InputStream inputStream = new GZIPInputStream(Files.newInputStream(gzipFile))) {
+            assertEquals(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8),
+                    SerializableTestClass.JSON_STRING_REPRESENTATION);
+        }
+        SerializableTestClass readBack = JsonUtil.deserializeObjectFromJsonFile(gzipFile, SerializableTestClass.class);
+        assertEquals(readBack.getName(), SerializableTestClass.getNameTestValue());
+    }
+
+    @Test
+    public void deserializeObjectFromJsonFile_gzipContentsWithoutExtension_detected() throws IOException {
+        Path gzipFile = testFolder.resolve("serialize.json");
+        try (OutputStream outputStream = new GZIPOutputStream(Files.newOutputStream(gzipFile))) {
+            outputStream.write(SerializableTestClass.JSON_STRING_REPRESENTATION.getBytes(StandardCharsets.UTF_8));
+        }
+
+        SerializableTestClass serializableTestClass = JsonUtil
+                .deserializeObjectFromJsonFile(gzipFile, SerializableTestClass.class);
+
+        assertEquals(serializableTestClass.getName(), SerializableTestClass.getNameTestValue());
+        assertEquals(serializableTestClass.getListOfLocalDateTimes(), SerializableTestClass.getListTestValues());
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
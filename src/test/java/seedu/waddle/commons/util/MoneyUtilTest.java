@@ -0,0 +1,61 @@
+package seedu.waddle.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.waddle.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class MoneyUtilTest {
+
+    @Test
+    public void isValidAmount() {
+        // null amount
+        assertThrows(NullPointerException.class, () -> MoneyUtil.isValidAmount(null, 100));
+
+        // invalid amounts
+        assertFalse(MoneyUtil.isValidAmount("", 100)); // empty string
+        assertFalse(MoneyUtil.isValidAmount(" 1", 100)); // leading space
+        assertFalse(MoneyUtil.isValidAmount("1f", 100)); // type suffix
+        assertFalse(MoneyUtil.isValidAmount("-0.01", 100)); // negative
+        assertFalse(MoneyUtil.isValidAmount("1.001", 100)); // above maximum
+
+        // valid amounts
+        assertTrue(MoneyUtil.isValidAmount("0", 100));
+        assertTrue(MoneyUtil.isValidAmount("1", 100)); // maximum
+        assertTrue(MoneyUtil.isValidAmount("0.999", 100));
+    }
+
+    @Test
+    public void parseCents_roundsHalfUp() {
+        assertEquals(0, MoneyUtil.parseCents("0"));
+        assertEquals(150, MoneyUtil.parseCents("1.5"));
+        assertEquals(29, MoneyUtil.parseCents("0.285"));
+        assertEquals(28, MoneyUtil.parseCents("0.2849"));
+        assertEquals(100_000_000, MoneyUtil.parseCents("1000000"));
+    }
+
+    @Test
+    public void parseCents_sumIsExact() {
+        long total = 0;
+        for (int i = 0; i < 1_000_000; i++) {
+            total += MoneyUtil.parseCents("0.10");
+        }
+        assertEquals(10_000_000, total);
+    }
+
+    @Test
+    public void toDisplayString() {
+        assertEquals("0.00", MoneyUtil.toDisplayString(0));
+        assertEquals("1,234.50", MoneyUtil.toDisplayString(123_450));
+        assertEquals("-0.05", MoneyUtil.toDisplayString(-5));
+    }
+
+    @Test
+    public void toSaveString() {
+        assertEquals("0.00", MoneyUtil.toSaveString(0));
+        assertEquals("1234.50", MoneyUtil.toSaveString(123_450));
+        assertEquals("1000000.00", MoneyUtil.toSaveString(100_000_000));
+    }
+}
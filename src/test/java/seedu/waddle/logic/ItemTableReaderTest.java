@@ -0,0 +1,105 @@
+package seedu.waddle.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.waddle.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.waddle.model.item.Cost;
+import seedu.waddle.model.item.Item;
+import seedu.waddle.testutil.ItemBuilder;
+
+public class ItemTableReaderTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ItemTableReader(null, item -> false));
+        assertThrows(NullPointerException.class, () -> new ItemTableReader(testFolder, null));
+    }
+
+    @Test
+    public void read_missingFile_throwsIoException() {
+        ItemTableReader reader = new ItemTableReader(testFolder.resolve("missing.csv"), item -> false);
+        assertThrows(IOException.class, reader::read);
+    }
+
+    @Test
+    public void read_validCsv_success() throws Exception {
+        ItemTableReader reader = read("items.csv",
+                "Description,Duration,Priority,Cost",
+                "Airport,60,5,100",
+                "",
+                "\"Museum, then lunch\",90",
+                "Park,30,,12.5");
+
+        assertTrue(reader.getErrors().isEmpty());
+        assertEquals(List.of(
+                new ItemBuilder().build(),
+                new ItemBuilder().withDesc("Museum, then lunch").withDuration("90")
+                        .withPriority(1).withCost("0").build(),
+                new ItemBuilder().withDesc("Park").withDuration("30").withPriority(1).withCost("12.5").build()),
+                reader.getItems());
+    }
+
+    @Test
+    public void read_byteOrderMark_headerSkipped() throws Exception {
+        ItemTableReader reader = read("items.csv", "\uFEFFDescription,Duration,Priority,Cost", "Airport,60,5,100");
+
+        assertTrue(reader.getErrors().isEmpty());
+        assertEquals(List.of(new ItemBuilder().build()), reader.getItems());
+    }
+
+    @Test
+    public void read_validTsv_success() throws Exception {
+        ItemTableReader reader = read("items.tsv", "Airport\t60\t5\t100", "Park, Zoo\t30");
+
+        assertTrue(reader.getErrors().isEmpty());
+        assertEquals(2, reader.getItems().size());
+        assertEquals("Park, Zoo", reader.getItems().get(1).getDescription().description);
+    }
+
+    @Test
+    public void read_invalidRows_recordsLineNumbers() throws Exception {
+        Item existingItem = new ItemBuilder().withDesc("Beach").build();
+        ItemTableReader reader = new ItemTableReader(write("items.csv",
+                "Airport,60",
+                "Airport,30",
+                "Beach,60",
+                "Park",
+                "Zoo,60,1,-1",
+                "\"Cafe,60"), existingItem::isSameItem);
+        reader.read();
+
+        assertEquals(1, reader.getItems().size());
+        assertEquals(List.of(
+                String.format(ItemTableReader.MESSAGE_ROW_ERROR, 2, ItemTableReader.MESSAGE_DUPLICATE_ROW),
+                String.format(ItemTableReader.MESSAGE_ROW_ERROR, 3, ItemTableReader.MESSAGE_EXISTING_ITEM),
+                String.format(ItemTableReader.MESSAGE_ROW_ERROR, 4,
+                        String.format(ItemTableReader.MESSAGE_WRONG_COLUMN_COUNT, 1)),
+                String.format(ItemTableReader.MESSAGE_ROW_ERROR, 5, Cost.MESSAGE_CONSTRAINTS),
+                String.format(ItemTableReader.MESSAGE_ROW_ERROR, 6, ItemTableReader.MESSAGE_UNTERMINATED_QUOTE)),
+                reader.getErrors());
+    }
+
+    private ItemTableReader read(String fileName, String... lines) throws IOException {
+        ItemTableReader reader = new ItemTableReader(write(fileName, lines), item -> false);
+        reader.read();
+        return reader;
+    }
+
+    private Path write(String fileName, String... lines) throws IOException {
+        Path file = testFolder.resolve(fileName);
+        Files.write(file, List.of(lines));
+        return file;
+    }
+}
@@ -91,6 +91,23 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_dataUnchanged_notSavedAgain() throws Exception {
+        JsonWaddleCountingStub waddleStorage = new JsonWaddleCountingStub(temporaryFolder.resolve("waddle.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(waddleStorage, userPrefsStorage));
+        StageManager.getInstance().setHomeStage();
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, waddleStorage.saveCount);
+
+        logic.execute(AddCommand.COMMAND_WORD + ITINERARY_DESC_DESC_SUMMER + COUNTRY_DESC_SUMMER
+                + START_DATE_DESC_SUMMER + DURATION_DESC_SUMMER + PEOPLE_DESC_SUMMER + BUDGET_DESC_SUMMER);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(2, waddleStorage.saveCount);
+    }
+
     @Test
     public void getFilteredItineraryList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredItineraryList().remove(0));
@@ -167,4 +184,21 @@ public class LogicManagerTest {
             throw DUMMY_IO_EXCEPTION;
         }
     }
+
+    /**
+     * A stub class that counts the number of times the save method is called.
+     */
+    private static class JsonWaddleCountingStub extends JsonWaddleStorage {
+        private int saveCount = 0;
+
+        private JsonWaddleCountingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveWaddle(ReadOnlyWaddle waddle, Path filePath) throws IOException {
+            saveCount++;
+            super.saveWaddle(waddle, filePath);
+        }
+    }
 }
@@ -0,0 +1,143 @@
+package seedu.waddle.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.waddle.testutil.Assert.assertThrows;
+
+import java.io.InterruptedIOException;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PdfExportManagerTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private final PdfExportManager pdfExportManager = PdfExportManager.getInstance();
+    private final List<String> progress = new CopyOnWriteArrayList<>();
+    private final BlockingQueue<String> results = new LinkedBlockingQueue<>();
+
+    @BeforeEach
+    public void setUp() {
+        pdfExportManager.setListener(new PdfExportManager.ExportListener() {
+            @Override
+            public void exportProgressed(String description) {
+                progress.add(description);
+            }
+
+            @Override
+            public void exportFinished(String result) {
+                results.add(result);
+            }
+        });
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        if (pdfExportManager.cancel()) {
+            results.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void start_reportsProgressAndResult() throws Exception {
+        pdfExportManager.start(progressReporter -> {
+            progressReporter.accept("1 of 2");
+            progressReporter.accept("2 of 2");
+            return "done";
+        });
+
+        assertEquals("done", results.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(List.of("1 of 2", "2 of 2"), progress);
+        assertFalse(pdfExportManager.isExporting());
+    }
+
+    @Test
+    public void start_exportThrows_reportsError() throws Exception {
+        pdfExportManager.start(progressReporter -> {
+            throw new IllegalStateException();
+        });
+        assertEquals(PdfExportManager.MESSAGE_EXPORT_ERROR, results.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void start_anotherExportRunning_throwsIllegalStateException() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        pdfExportManager.start(progressReporter -> waitUntilCancelled(started));
+        assertTrue(started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        assertTrue(pdfExportManager.isExporting());
+        assertThrows(IllegalStateException.class, () -> pdfExportManager.start(progressReporter -> "done"));
+    }
+
+    @Test
+    public void cancel_runningExport_reportsCancelled() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        pdfExportManager.start(progressReporter -> waitUntilCancelled(started));
+        assertTrue(started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        assertTrue(pdfExportManager.cancel());
+        assertEquals(PdfExportManager.MESSAGE_EXPORT_CANCELLED, results.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertFalse(pdfExportManager.isExporting());
+    }
+
+    @Test
+    public void cancel_exportWaitingForCancelledExport_reportsCancelledStraightAway() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch released = new CountDownLatch(1);
+        pdfExportManager.start(progressReporter -> {
+            started.countDown();
+            // keeps running after it is cancelled, so that the next export waits behind it
+            awaitUninterruptibly(released);
+            return "first";
+        });
+        assertTrue(started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertTrue(pdfExportManager.cancel());
+
+        pdfExportManager.start(progressReporter -> "second");
+        assertTrue(pdfExportManager.cancel());
+        assertEquals(PdfExportManager.MESSAGE_EXPORT_CANCELLED, results.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        released.countDown();
+        assertEquals("first", results.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertFalse(pdfExportManager.isExporting());
+    }
+
+    @Test
+    public void cancel_noExport_returnsFalse() {
+        assertFalse(pdfExportManager.cancel());
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        boolean isInterrupted = false;
+        while (true) {
+            try {
+                latch.await();
+                break;
+            } catch (InterruptedException e) {
+                isInterrupted = true;
+            }
+        }
+        if (isInterrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String waitUntilCancelled(CountDownLatch started) throws InterruptedIOException {
+        started.countDown();
+        try {
+            Thread.sleep(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+        } catch (InterruptedException e) {
+            throw new InterruptedIOException();
+        }
+        return "not cancelled";
+    }
+}
@@ -1,21 +1,42 @@
 package seedu.waddle.logic;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.waddle.testutil.Assert.assertThrows;
 import static seedu.waddle.testutil.TypicalItineraries.WINTER;
 
+import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
 
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.waddle.commons.core.index.Index;
+import seedu.waddle.model.itinerary.DayNumber;
+import seedu.waddle.model.itinerary.Itinerary;
+import seedu.waddle.testutil.ItemBuilder;
+import seedu.waddle.testutil.ItineraryBuilder;
 
 public class PdfFillerTest {
 
+    @TempDir
+    public Path testFolder;
+
     private String pdfTemplate = "/template/waddle_template.pdf";
     private PdfFiller pdfFiller;
 
     @BeforeEach
     public void setUp() {
         try {
-            pdfFiller = new PdfFiller(WINTER, pdfTemplate);
+            pdfFiller = new PdfFiller(WINTER, pdfTemplate, 0, testFolder);
         } catch (IOException e) {
             System.out.println("Failed to create PdfFiller");
         }
@@ -39,4 +60,58 @@ public class PdfFillerTest {
         }
         assert true : "Filled itinerary successfully";
     }
+
+    @Test
+    public void getTemplate_readOnce() throws IOException {
+        assertSame(PdfFiller.getTemplate(pdfTemplate), PdfFiller.getTemplate(pdfTemplate));
+    }
+
+    @Test
+    public void getTemplate_missingTemplate_throwsFileNotFoundException() {
+        assertThrows(FileNotFoundException.class, () -> PdfFiller.getTemplate("/template/missing.pdf"));
+    }
+
+    @Test
+    public void constructor_negativeParallelism_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PdfFiller(WINTER, pdfTemplate, -1));
+    }
+
+    @Test
+    public void fillItinerary_oneThread_success() throws IOException {
+        new PdfFiller(WINTER, pdfTemplate, 1, testFolder).fillItinerary();
+    }
+
+    @Test
+    public void fill_severalThreads_pagesInDayAndPageOrder() throws Exception {
+        int dayCount = 3;
+        int itemsPerDay = PdfFiller.MAX_DISPLAY + 5;
+        Itinerary itinerary = new ItineraryBuilder().withDescription("Ordered Trip")
+                .withDuration(String.valueOf(dayCount)).withBudget("1000000").build();
+        for (int day = 1; day <= dayCount; day++) {
+            List<Index> indices = new ArrayList<>();
+            List<LocalTime> startTimes = new ArrayList<>();
+            for (int i = 0; i < itemsPerDay; i++) {
+                itinerary.addItem(new ItemBuilder().withDesc("Day " + day + " Activity " + i)
+                        .withDuration("1").build());
+                indices.add(Index.fromZeroBased(i));
+                startTimes.add(LocalTime.MIN.plusMinutes(i));
+            }
+            // the items of earlier days are planned already, so the new items are the whole wishlist
+            itinerary.planItems(indices, new DayNumber(String.valueOf(day)), startTimes);
+        }
+
+        List<Integer> daysDone = new ArrayList<>();
+        try (PDDocument pdf = new PdfFiller(itinerary, pdfTemplate, 4).fill((done, totalDays) -> daysDone.add(done))) {
+            assertEquals(2 * dayCount, pdf.getNumberOfPages());
+            PDFTextStripper stripper = new PDFTextStripper();
+            for (int page = 0; page < pdf.getNumberOfPages(); page++) {
+                stripper.setStartPage(page + 1);
+                stripper.setEndPage(page + 1);
+                // the first activity on each page identifies it
+                String firstActivity = "Day " + (page / 2 + 1) + " Activity " + (page % 2) * PdfFiller.MAX_DISPLAY;
+                assertTrue(stripper.getText(pdf).contains(firstActivity));
+            }
+        }
+        assertEquals(List.of(1, 2, 3), daysDone);
+    }
 }
@@ -0,0 +1,98 @@
+package seedu.waddle.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.waddle.testutil.TypicalItineraries.WINTER;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.waddle.commons.core.index.Index;
+import seedu.waddle.model.itinerary.DayNumber;
+import seedu.waddle.model.itinerary.Itinerary;
+import seedu.waddle.testutil.ItemBuilder;
+import seedu.waddle.testutil.ItineraryBuilder;
+
+public class PdfRendererTest {
+
+    private static final float WIDTH = 200;
+
+    @TempDir
+    public Path testFolder;
+
+    /**
+     * Returns an itinerary of 3 days with {@code itemCount} items planned on its first day.
+     */
+    private static Itinerary createItinerary(int itemCount) throws Exception {
+        Itinerary itinerary = new ItineraryBuilder().withDescription("Rendered Trip").withDuration("3")
+                .withBudget("1000000").build();
+        List<Index> indices = new ArrayList<>();
+        List<LocalTime> startTimes = new ArrayList<>();
+        for (int i = 0; i < itemCount; i++) {
+            itinerary.addItem(new ItemBuilder().withDesc("Activity " + i).withDuration("1").build());
+            indices.add(Index.fromZeroBased(i));
+            startTimes.add(LocalTime.MIN.plusMinutes(i));
+        }
+        itinerary.planItems(indices, new DayNumber("1"), startTimes);
+        return itinerary;
+    }
+
+    @Test
+    public void fillItinerary_success() throws IOException {
+        new PdfRenderer(WINTER, testFolder).fillItinerary();
+    }
+
+    @Test
+    public void render_emptyDays_onePagePerDay() throws Exception {
+        List<Integer> daysDone = new ArrayList<>();
+        try (PDDocument pdf = new PdfRenderer(createItinerary(0))
+                .render((done, totalDays) -> daysDone.add(done))) {
+            assertEquals(3, pdf.getNumberOfPages());
+        }
+        assertEquals(List.of(1, 2, 3), daysDone);
+    }
+
+    @Test
+    public void render_manyItems_fewerPagesThanTemplate() throws Exception {
+        try (PDDocument pdf = new PdfRenderer(createItinerary(20)).render((done, totalDays) -> { })) {
+            assertEquals(3, pdf.getNumberOfPages());
+        }
+        int itemCount = 100;
+        int templatePages = (int) Math.ceil((double) itemCount / PdfFiller.MAX_DISPLAY);
+        try (PDDocument pdf = new PdfRenderer(createItinerary(itemCount)).render((done, totalDays) -> { })) {
+            // the other two days have a page each
+            int firstDayPages = pdf.getNumberOfPages() - 2;
+            assertTrue(firstDayPages > 1);
+            assertTrue(firstDayPages < templatePages);
+        }
+    }
+
+    @Test
+    public void wrap_shortText_oneLine() throws IOException {
+        assertEquals(List.of("Eat at a hawker centre"),
+                PdfRenderer.wrap(" Eat  at a\thawker centre ", PDType1Font.HELVETICA, 11, WIDTH));
+    }
+
+    @Test
+    public void wrap_longText_linesFitWidth() throws IOException {
+        String text = "Visit the night market, then take the cable car up the hill to watch the sunset "
+                + "over the harbour: " + "a".repeat(100);
+        List<String> lines = PdfRenderer.wrap(text, PDType1Font.HELVETICA, 11, WIDTH);
+
+        assertTrue(lines.size() > 1);
+        for (String line : lines) {
+            assertTrue(PDType1Font.HELVETICA.getStringWidth(line) / 1000 * 11 <= WIDTH);
+        }
+        // words are only broken up when they are wider than a line
+        assertTrue(String.join(" ", lines).startsWith(text.substring(0, text.length() - 100)));
+        assertEquals(text.replace(" ", ""), String.join("", lines).replace(" ", ""));
+    }
+}
@@ -0,0 +1,31 @@
+package seedu.waddle.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.waddle.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.waddle.model.Model;
+import seedu.waddle.model.ModelManager;
+
+public class CancelCommandTest {
+
+    private final Model model = new ModelManager();
+    private final Model expectedModel = new ModelManager();
+
+    @Test
+    public void execute_noExport_nothingToCancel() {
+        assertCommandSuccess(new CancelCommand(), model, CancelCommand.MESSAGE_NOTHING_TO_CANCEL, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        CancelCommand cancelCommand = new CancelCommand();
+
+        assertTrue(cancelCommand.equals(cancelCommand));
+        assertTrue(cancelCommand.equals(new CancelCommand()));
+        assertFalse(cancelCommand.equals(null));
+        assertFalse(cancelCommand.equals(new HomeCommand()));
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.waddle.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.waddle.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.waddle.testutil.TypicalItineraries.getTypicalWaddle;
 
@@ -10,6 +12,7 @@ import seedu.waddle.logic.StageManager;
 import seedu.waddle.model.Model;
 import seedu.waddle.model.ModelManager;
 import seedu.waddle.model.UserPrefs;
+import seedu.waddle.model.item.Duration;
 import seedu.waddle.model.itinerary.Itinerary;
 
 /**
@@ -35,4 +38,29 @@ public class FreeCommandTest {
 
         assertCommandSuccess(new FreeCommand(), model, expectedCommandResult, expectedModel);
     }
+
+    @Test
+    public void execute_minimumDuration_correctOutput() {
+        Itinerary selectedItinerary = model.getFilteredItineraryList().get(2);
+        StageManager.getInstance().setWishStage(selectedItinerary);
+        String expectedCommandResult = selectedItinerary.getVacantSlots(90);
+
+        assertCommandSuccess(new FreeCommand(new Duration("90")), model, expectedCommandResult, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        FreeCommand freeCommand = new FreeCommand();
+        FreeCommand freeNinetyCommand = new FreeCommand(new Duration("90"));
+
+        // same values -> returns true
+        assertTrue(freeCommand.equals(new FreeCommand()));
+        assertTrue(freeNinetyCommand.equals(new FreeCommand(new Duration("90"))));
+
+        // different minimum duration -> returns false
+        assertFalse(freeCommand.equals(freeNinetyCommand));
+
+        // null -> returns false
+        assertFalse(freeCommand.equals(null));
+    }
 }
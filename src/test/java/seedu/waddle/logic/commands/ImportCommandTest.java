@@ -0,0 +1,99 @@
+package seedu.waddle.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.waddle.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.waddle.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.waddle.logic.ItemTableReader;
+import seedu.waddle.logic.StageManager;
+import seedu.waddle.model.Model;
+import seedu.waddle.model.ModelManager;
+import seedu.waddle.model.item.Duration;
+import seedu.waddle.model.itinerary.Itinerary;
+import seedu.waddle.testutil.ItemBuilder;
+import seedu.waddle.testutil.ItineraryBuilder;
+
+public class ImportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model;
+    private Itinerary itinerary;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager();
+        itinerary = new ItineraryBuilder().withBudget("1000").build();
+        itinerary.addItem(new ItemBuilder().withDesc("Beach").build());
+        StageManager.getInstance().setWishStage(itinerary);
+    }
+
+    @Test
+    public void constructor_nullPath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ImportCommand(null));
+    }
+
+    @Test
+    public void execute_validFile_itemsAdded() throws Exception {
+        Path file = testFolder.resolve("items.csv");
+        Files.write(file, List.of("Airport,60", "Park,30,3,12"));
+
+        CommandResult result = new ImportCommand(file).execute(model);
+
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 2), result.getFeedbackToUser());
+        assertEquals(3, itinerary.getUnscheduledItemList().asUnmodifiableObservableList().size());
+        assertTrue(itinerary.hasItem(new ItemBuilder().withDesc("Park").build()));
+    }
+
+    @Test
+    public void execute_invalidRows_nothingAdded() throws Exception {
+        List<String> lines = new ArrayList<>();
+        lines.add("Airport,60");
+        for (int i = 0; i < ImportCommand.MAX_ROWS_SHOWN + 1; i++) {
+            lines.add("Park " + i + ",soon");
+        }
+        Path file = testFolder.resolve("items.csv");
+        Files.write(file, lines);
+
+        StringBuilder expectedMessage = new StringBuilder(
+                String.format(ImportCommand.MESSAGE_INVALID_ROWS, ImportCommand.MAX_ROWS_SHOWN + 1));
+        for (int i = 0; i < ImportCommand.MAX_ROWS_SHOWN; i++) {
+            expectedMessage.append("\n    ").append(String.format(ItemTableReader.MESSAGE_ROW_ERROR, i + 2,
+                    Duration.MESSAGE_CONSTRAINTS));
+        }
+        expectedMessage.append("\n    ").append(String.format(ImportCommand.MESSAGE_MORE_INVALID_ROWS, 1));
+
+        assertCommandFailure(new ImportCommand(file), model, expectedMessage.toString());
+        assertFalse(itinerary.hasItem(new ItemBuilder().build()));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path file = testFolder.resolve("missing.csv");
+        assertCommandFailure(new ImportCommand(file), model, String.format(ImportCommand.MESSAGE_READ_FAILURE, file));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCommand = new ImportCommand(Paths.get("a.csv"));
+
+        assertTrue(importCommand.equals(importCommand));
+        assertTrue(importCommand.equals(new ImportCommand(Paths.get("a.csv"))));
+        assertFalse(importCommand.equals(new ImportCommand(Paths.get("b.csv"))));
+        assertFalse(importCommand.equals(null));
+        assertFalse(importCommand.equals(1));
+    }
+}
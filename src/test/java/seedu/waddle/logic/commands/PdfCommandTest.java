@@ -0,0 +1,159 @@
+package seedu.waddle.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.waddle.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.waddle.commons.exceptions.IllegalValueException;
+import seedu.waddle.logic.PdfExportManager;
+import seedu.waddle.logic.PdfExporter;
+import seedu.waddle.logic.StageManager;
+import seedu.waddle.model.Model;
+import seedu.waddle.model.ModelManager;
+import seedu.waddle.model.UserPrefs;
+import seedu.waddle.model.Waddle;
+import seedu.waddle.model.itinerary.Itinerary;
+import seedu.waddle.model.itinerary.ItineraryContents;
+import seedu.waddle.testutil.ItineraryBuilder;
+
+public class PdfCommandTest {
+
+    private static final long TIMEOUT_SECONDS = 30;
+
+    @TempDir
+    public Path testFolder;
+
+    private final BlockingQueue<String> results = new LinkedBlockingQueue<>();
+
+    @BeforeEach
+    public void setUp() {
+        PdfExportManager.getInstance().setExportFolder(testFolder);
+        PdfExportManager.getInstance().setListener(new PdfExportManager.ExportListener() {
+            @Override
+            public void exportProgressed(String progress) {
+            }
+
+            @Override
+            public void exportFinished(String result) {
+                results.add(result);
+            }
+        });
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        if (PdfExportManager.getInstance().cancel()) {
+            results.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+        PdfExportManager.getInstance().setExportFolder(PdfExporter.getDefaultExportFolder());
+        StageManager.getInstance().setHomeStage();
+    }
+
+    @Test
+    public void execute_selectedItinerary_exportsInBackground() throws Exception {
+        Itinerary itinerary = new ItineraryBuilder().withDescription("Pdf Trip").build();
+        StageManager.getInstance().setWishStage(itinerary);
+
+        CommandResult result = new PdfCommand().execute(new ModelManager());
+
+        assertEquals(String.format(PdfCommand.MESSAGE_EXPORT_STARTED, itinerary.getDescription()),
+                result.getFeedbackToUser());
+        assertEquals(String.format(PdfCommand.MESSAGE_EXPORT_SUCCESS, itinerary.getDescription()),
+                results.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertTrue(Files.exists(testFolder.resolve("Pdf Trip.pdf")));
+    }
+
+    @Test
+    public void execute_compactLayout_exportsInBackground() throws Exception {
+        Itinerary itinerary = new ItineraryBuilder().withDescription("Compact Pdf Trip").build();
+        StageManager.getInstance().setWishStage(itinerary);
+
+        CommandResult result = new PdfCommand(true).execute(new ModelManager());
+
+        assertEquals(String.format(PdfCommand.MESSAGE_EXPORT_STARTED, itinerary.getDescription()),
+                result.getFeedbackToUser());
+        assertEquals(String.format(PdfCommand.MESSAGE_EXPORT_SUCCESS, itinerary.getDescription()),
+                results.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void execute_homeStageNoItineraries_nothingToExport() {
+        StageManager.getInstance().setHomeStage();
+        assertCommandSuccess(new PdfCommand(), new ModelManager(), PdfCommand.MESSAGE_NOTHING_TO_EXPORT,
+                new ModelManager());
+    }
+
+    @Test
+    public void execute_homeStage_exportsEveryListedItinerary() throws Exception {
+        StageManager.getInstance().setHomeStage();
+        Waddle waddle = new Waddle();
+        Itinerary first = new ItineraryBuilder().withDescription("First Pdf Trip").build();
+        Itinerary second = new ItineraryBuilder().withDescription("Second Pdf Trip").build();
+        waddle.addItinerary(first);
+        waddle.addItinerary(second);
+        Model model = new ModelManager(waddle, new UserPrefs());
+
+        CommandResult result = new PdfCommand().execute(model);
+
+        assertEquals(String.format(PdfCommand.MESSAGE_EXPORT_ALL_STARTED, 2), result.getFeedbackToUser());
+        String expectedResult = String.format(PdfCommand.MESSAGE_EXPORT_ALL_RESULT, 2, 2,
+                String.format(PdfCommand.MESSAGE_EXPORT_ALL_CREATED, first.getDescription())
+                + String.format(PdfCommand.MESSAGE_EXPORT_ALL_CREATED, second.getDescription()));
+        assertEquals(expectedResult, results.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void execute_homeStageUnreadableItinerary_exportsTheOthers() throws Exception {
+        StageManager.getInstance().setHomeStage();
+        Itinerary broken = new ItineraryBuilder().withDescription("Broken Pdf Trip").build();
+        Itinerary unreadable = new Itinerary(broken.getDescription(), broken.getCountry(), broken.getStartDate(),
+                broken.getDuration(), broken.getPeople(), broken.getBudget(), new ItineraryContents() {
+                    @Override
+                    public void loadInto(Itinerary itinerary) throws IllegalValueException {
+                        throw new IllegalValueException("Invalid item");
+                    }
+
+                    @Override
+                    public long getSpending() {
+                        return 0;
+                    }
+                });
+        Itinerary other = new ItineraryBuilder().withDescription("Other Pdf Trip").build();
+        Waddle waddle = new Waddle();
+        waddle.addItinerary(unreadable);
+        waddle.addItinerary(other);
+        Model model = new ModelManager(waddle, new UserPrefs());
+
+        CommandResult result = new PdfCommand().execute(model);
+
+        assertEquals(String.format(PdfCommand.MESSAGE_EXPORT_ALL_STARTED, 2), result.getFeedbackToUser());
+        String expectedResult = String.format(PdfCommand.MESSAGE_EXPORT_ALL_RESULT, 1, 2,
+                String.format(PdfCommand.MESSAGE_EXPORT_ALL_FAILED, unreadable.getDescription())
+                + String.format(PdfCommand.MESSAGE_EXPORT_ALL_CREATED, other.getDescription()));
+        assertEquals(expectedResult, results.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void equals() {
+        PdfCommand pdfCommand = new PdfCommand();
+
+        assertTrue(pdfCommand.equals(pdfCommand));
+        assertTrue(pdfCommand.equals(new PdfCommand()));
+        assertTrue(new PdfCommand(true).equals(new PdfCommand(true)));
+        assertFalse(pdfCommand.equals(null));
+        assertFalse(pdfCommand.equals(new PdfCommand(true)));
+        assertFalse(pdfCommand.equals(new CancelCommand()));
+    }
+}
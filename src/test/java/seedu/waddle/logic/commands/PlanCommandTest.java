@@ -9,6 +9,7 @@ import static seedu.waddle.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.waddle.testutil.Assert.assertThrows;
 
 import java.time.LocalTime;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -47,7 +48,7 @@ public class PlanCommandTest {
     @Test
     public void execute_startAtMidnight_planSuccessful() {
         PlanCommand planCommand =
-                new PlanCommand(Index.fromZeroBased(1), new DayNumber("1"), LocalTime.parse("00:00"));
+                new PlanCommand(List.of(Index.fromZeroBased(1)), new DayNumber("1"), List.of(LocalTime.parse("00:00")));
         Model expectedModel = getModelStub();
         try {
             expectedModel.getFilteredItineraryList().get(0)
@@ -63,7 +64,7 @@ public class PlanCommandTest {
     @Test
     public void execute_endAtMidnight_planSuccessful() {
         PlanCommand planCommand =
-                new PlanCommand(Index.fromZeroBased(1), new DayNumber("1"), LocalTime.parse("23:00"));
+                new PlanCommand(List.of(Index.fromZeroBased(1)), new DayNumber("1"), List.of(LocalTime.parse("23:00")));
         Model expectedModel = getModelStub();
         try {
             expectedModel.getFilteredItineraryList().get(0)
@@ -79,7 +80,7 @@ public class PlanCommandTest {
     @Test
     public void execute_startTimeConflict_throwsCommandException() throws Exception {
         PlanCommand planCommand =
-                new PlanCommand(Index.fromZeroBased(1), new DayNumber("1"), LocalTime.parse("11:30"));
+                new PlanCommand(List.of(Index.fromZeroBased(1)), new DayNumber("1"), List.of(LocalTime.parse("11:30")));
 
         assertCommandFailure(planCommand, model, timeConflictMessage);
     }
@@ -87,7 +88,7 @@ public class PlanCommandTest {
     @Test
     public void execute_endTimeConflict_throwsCommandException() throws Exception {
         PlanCommand planCommand =
-                new PlanCommand(Index.fromZeroBased(0), new DayNumber("1"), LocalTime.parse("12:30"));
+                new PlanCommand(List.of(Index.fromZeroBased(0)), new DayNumber("1"), List.of(LocalTime.parse("12:30")));
 
         assertCommandFailure(planCommand, model, timeConflictMessage);
     }
@@ -95,7 +96,7 @@ public class PlanCommandTest {
     @Test
     public void execute_sameTimeConflict_throwsCommandException() throws Exception {
         PlanCommand planCommand =
-                new PlanCommand(Index.fromZeroBased(0), new DayNumber("1"), LocalTime.parse("12:00"));
+                new PlanCommand(List.of(Index.fromZeroBased(0)), new DayNumber("1"), List.of(LocalTime.parse("12:00")));
 
         assertCommandFailure(planCommand, model, timeConflictMessage);
     }
@@ -103,7 +104,7 @@ public class PlanCommandTest {
     @Test
     public void execute_overlapTimeConflict_throwsCommandException() throws Exception {
         PlanCommand planCommand =
-                new PlanCommand(Index.fromZeroBased(0), new DayNumber("1"), LocalTime.parse("11:30"));
+                new PlanCommand(List.of(Index.fromZeroBased(0)), new DayNumber("1"), List.of(LocalTime.parse("11:30")));
 
         assertCommandFailure(planCommand, model, timeConflictMessage);
     }
@@ -111,7 +112,7 @@ public class PlanCommandTest {
     @Test
     public void execute_pastMidnightTimeConflict_throwsCommandException() throws Exception {
         PlanCommand planCommand =
-                new PlanCommand(Index.fromZeroBased(0), new DayNumber("1"), LocalTime.parse("23:30"));
+                new PlanCommand(List.of(Index.fromZeroBased(0)), new DayNumber("1"), List.of(LocalTime.parse("23:30")));
         String expectedMessage = String.format(MESSAGE_ITEM_PAST_MIDNIGHT,
                 "item 2");
 
@@ -120,14 +121,17 @@ public class PlanCommandTest {
 
     @Test
     public void equals() {
-        PlanCommand planCommand1 = new PlanCommand(Index.fromZeroBased(0), new DayNumber("1"), LocalTime.NOON);
-        PlanCommand planCommand2 = new PlanCommand(Index.fromZeroBased(1), new DayNumber("2"), LocalTime.MIDNIGHT);
+        PlanCommand planCommand1 = new PlanCommand(List.of(Index.fromZeroBased(0)), new DayNumber("1"),
+                List.of(LocalTime.NOON));
+        PlanCommand planCommand2 = new PlanCommand(List.of(Index.fromZeroBased(1)), new DayNumber("2"),
+                List.of(LocalTime.MIDNIGHT));
 
         // same object -> returns true
         assertTrue(planCommand1.equals(planCommand1));
 
         // same values -> returns true
-        PlanCommand planCommand1Copy = new PlanCommand(Index.fromZeroBased(0), new DayNumber("1"), LocalTime.NOON);
+        PlanCommand planCommand1Copy = new PlanCommand(List.of(Index.fromZeroBased(0)), new DayNumber("1"),
+                List.of(LocalTime.NOON));
         assertTrue(planCommand1.equals(planCommand1Copy));
 
         // different types -> returns false
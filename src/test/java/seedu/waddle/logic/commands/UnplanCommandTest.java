@@ -11,6 +11,8 @@ import static seedu.waddle.testutil.TypicalMultiIndexes.MULTI_INDEX_FIRST_DAY_FI
 import static seedu.waddle.testutil.TypicalMultiIndexes.MULTI_INDEX_FIRST_DAY_SECOND_ITEM;
 import static seedu.waddle.testutil.TypicalMultiIndexes.MULTI_INDEX_FIRST_UNSCHEDULED_ITEM;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.waddle.logic.StageManager;
@@ -32,7 +34,7 @@ public class UnplanCommandTest {
     @Test
     public void execute_validMultiIndexDayList_success() {
         Itinerary validItinerary = getTypicalWaddle().getItineraryList().get(INDEX_SECOND_ITINERARY.getZeroBased());
-        UnplanCommand unplanCommand = new UnplanCommand(MULTI_INDEX_FIRST_DAY_FIRST_ITEM);
+        UnplanCommand unplanCommand = new UnplanCommand(List.of(MULTI_INDEX_FIRST_DAY_FIRST_ITEM));
 
         Model expectedModel = new ModelManager(model.getWaddle(), new UserPrefs());
 
@@ -48,21 +50,21 @@ public class UnplanCommandTest {
 
     @Test
     public void execute_invalidMultiIndexDayList_throwsCommandException() {
-        UnplanCommand unplanCommand = new UnplanCommand(MULTI_INDEX_FIRST_UNSCHEDULED_ITEM);
+        UnplanCommand unplanCommand = new UnplanCommand(List.of(MULTI_INDEX_FIRST_UNSCHEDULED_ITEM));
 
         assertCommandFailure(unplanCommand, model, UnplanCommand.MESSAGE_INVALID_INDEX_NUMBER);
     }
 
     @Test
     public void equals() {
-        UnplanCommand unplanFirstCommand = new UnplanCommand(MULTI_INDEX_FIRST_DAY_FIRST_ITEM);
-        UnplanCommand unplanSecondCommand = new UnplanCommand(MULTI_INDEX_FIRST_DAY_SECOND_ITEM);
+        UnplanCommand unplanFirstCommand = new UnplanCommand(List.of(MULTI_INDEX_FIRST_DAY_FIRST_ITEM));
+        UnplanCommand unplanSecondCommand = new UnplanCommand(List.of(MULTI_INDEX_FIRST_DAY_SECOND_ITEM));
 
         // same object -> returns true
         assertTrue(unplanFirstCommand.equals(unplanFirstCommand));
 
         // same values -> returns true
-        UnplanCommand unplanFirstCommandCopy = new UnplanCommand(MULTI_INDEX_FIRST_DAY_FIRST_ITEM);
+        UnplanCommand unplanFirstCommandCopy = new UnplanCommand(List.of(MULTI_INDEX_FIRST_DAY_FIRST_ITEM));
         assertTrue(unplanFirstCommand.equals(unplanFirstCommandCopy));
 
         // different types -> returns false
@@ -0,0 +1,35 @@
+package seedu.waddle.logic.parser;
+
+import static seedu.waddle.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.waddle.logic.commands.CommandTestUtil.INVALID_ITEM_DURATION_DESC;
+import static seedu.waddle.logic.commands.CommandTestUtil.ITEM_DURATION_DESC_ART;
+import static seedu.waddle.logic.commands.CommandTestUtil.VALID_DURATION_ART;
+import static seedu.waddle.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.waddle.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.waddle.logic.commands.FreeCommand;
+import seedu.waddle.model.item.Duration;
+
+public class FreeCommandParserTest {
+
+    private final FreeCommandParser parser = new FreeCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsFreeCommand() {
+        assertParseSuccess(parser, "", new FreeCommand());
+        assertParseSuccess(parser, "   ", new FreeCommand());
+    }
+
+    @Test
+    public void parse_minimumDuration_returnsFreeCommand() {
+        assertParseSuccess(parser, ITEM_DURATION_DESC_ART, new FreeCommand(new Duration(VALID_DURATION_ART)));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        assertParseFailure(parser, "1", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, INVALID_ITEM_DURATION_DESC, Duration.MESSAGE_CONSTRAINTS);
+    }
+}
@@ -0,0 +1,29 @@
+package seedu.waddle.logic.parser;
+
+import static seedu.waddle.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.waddle.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.waddle.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.waddle.logic.commands.ImportCommand;
+
+public class ImportCommandParserTest {
+
+    private final ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_validPath_returnsImportCommand() {
+        assertParseSuccess(parser, " data/wishlist.csv ", new ImportCommand(Paths.get("data/wishlist.csv")));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, "   ", expectedMessage);
+        assertParseFailure(parser, "wish\0list.csv", expectedMessage);
+    }
+}
@@ -1,19 +1,27 @@
 package seedu.waddle.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.waddle.logic.parser.ParserUtil.MESSAGE_DUPLICATE_INDEX;
 import static seedu.waddle.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
+import static seedu.waddle.logic.parser.ParserUtil.MESSAGE_TOO_MANY_INDICES;
 import static seedu.waddle.testutil.Assert.assertThrows;
 import static seedu.waddle.testutil.TypicalIndexes.INDEX_FIRST_ITINERARY;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.waddle.commons.core.index.Index;
 import seedu.waddle.logic.parser.exceptions.ParseException;
+import seedu.waddle.logic.parser.exceptions.TooManyIndicesException;
 import seedu.waddle.model.itinerary.Country;
 import seedu.waddle.model.itinerary.Date;
 import seedu.waddle.model.itinerary.Description;
 import seedu.waddle.model.itinerary.People;
 
 public class ParserUtilTest {
+    private static final int MAX_INDICES = 10;
+
     private static final String INVALID_DESCRIPTION = "W**nter";
     private static final String INVALID_COUNTRY = "+651234";
     private static final String INVALID_START_DATE = "2022/03/15";
@@ -48,6 +56,41 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST_ITINERARY, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parseIndices_validInput_success() throws Exception {
+        assertEquals(List.of(Index.fromOneBased(3), Index.fromOneBased(1)),
+                ParserUtil.parseIndices("3, 1", MAX_INDICES));
+        assertEquals(List.of(Index.fromOneBased(5), Index.fromOneBased(2), Index.fromOneBased(3),
+                Index.fromOneBased(4)), ParserUtil.parseIndices("5,2-4", MAX_INDICES));
+    }
+
+    @Test
+    public void parseIndices_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndices("1,", MAX_INDICES));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndices("4-2", MAX_INDICES));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndices("1-2-3", MAX_INDICES));
+        assertThrows(ParseException.class, MESSAGE_DUPLICATE_INDEX, () ->
+                ParserUtil.parseIndices("1-3,2", MAX_INDICES));
+    }
+
+    @Test
+    public void parseIndices_tooManyIndices_throwsTooManyIndicesException() throws Exception {
+        String tooManyIndices = String.format(MESSAGE_TOO_MANY_INDICES, MAX_INDICES);
+        assertEquals(MAX_INDICES, ParserUtil.parseIndices("1-" + MAX_INDICES, MAX_INDICES).size());
+        assertThrows(TooManyIndicesException.class, tooManyIndices, () -> ParserUtil.parseIndices("1-5,6-11",
+                MAX_INDICES));
+        // a huge range is rejected without being expanded
+        assertThrows(TooManyIndicesException.class, tooManyIndices, () -> ParserUtil.parseIndices("1-2000000000",
+                MAX_INDICES));
+        assertThrows(TooManyIndicesException.class, tooManyIndices, () -> ParserUtil.parseIndices(
+                "1-2000000000,1-2000000000", MAX_INDICES));
+    }
+
+    @Test
+    public void parseMultiIndices_duplicate_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_DUPLICATE_INDEX, () -> ParserUtil.parseMultiIndices("1.2,1.2"));
+    }
+
     @Test
     public void parseName_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseDescription((String) null));
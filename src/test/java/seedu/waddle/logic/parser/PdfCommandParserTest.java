@@ -0,0 +1,29 @@
+package seedu.waddle.logic.parser;
+
+import static seedu.waddle.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.waddle.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.waddle.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.waddle.logic.commands.PdfCommand;
+
+public class PdfCommandParserTest {
+    private final PdfCommandParser parser = new PdfCommandParser();
+
+    @Test
+    public void parse_emptyArg_returnsTemplatePdfCommand() {
+        assertParseSuccess(parser, "     ", new PdfCommand());
+    }
+
+    @Test
+    public void parse_compact_returnsCompactPdfCommand() {
+        assertParseSuccess(parser, " " + PdfCommand.COMPACT_LAYOUT + " ", new PdfCommand(true));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "a",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, PdfCommand.MESSAGE_USAGE));
+    }
+}
@@ -9,12 +9,17 @@ import static seedu.waddle.logic.commands.CommandTestUtil.VALID_DAY_NUMBER;
 import static seedu.waddle.logic.commands.CommandTestUtil.VALID_START_TIME_1200;
 import static seedu.waddle.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.waddle.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.waddle.logic.parser.ParserUtil.MESSAGE_TOO_MANY_INDICES;
+
+import java.time.LocalTime;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.waddle.commons.core.index.Index;
 import seedu.waddle.logic.commands.PlanCommand;
 import seedu.waddle.model.item.StartTime;
+import seedu.waddle.model.item.TimeSlotIndex;
 import seedu.waddle.model.itinerary.DayNumber;
 
 public class PlanCommandParserTest {
@@ -45,6 +50,10 @@ public class PlanCommandParserTest {
 
         // invalid arguments being parsed as preamble
         assertParseFailure(parser, "invalid" + DAY_NUMBER_DESC + START_TIME_DESC_1200, MESSAGE_INVALID_FORMAT);
+
+        // more items than fit in a day
+        assertParseFailure(parser, "1-2000000000" + DAY_NUMBER_DESC + START_TIME_DESC_1200,
+                String.format(MESSAGE_TOO_MANY_INDICES, TimeSlotIndex.MINUTES_PER_DAY));
     }
 
     @Test
@@ -62,9 +71,24 @@ public class PlanCommandParserTest {
     @Test
     public void parse_allFieldsSpecified_success() {
         String userInput = Index.fromZeroBased(0).getOneBased() + DAY_NUMBER_DESC + START_TIME_DESC_1200;
-        PlanCommand expectedCommand = new PlanCommand(Index.fromZeroBased(0),
-                new DayNumber(VALID_DAY_NUMBER), VALID_START_TIME_1200);
+        PlanCommand expectedCommand = new PlanCommand(List.of(Index.fromZeroBased(0)),
+                new DayNumber(VALID_DAY_NUMBER), List.of(VALID_START_TIME_1200));
 
         assertParseSuccess(parser, userInput, expectedCommand);
     }
+
+    @Test
+    public void parse_multipleItems_success() {
+        PlanCommand expectedCommand = new PlanCommand(
+                List.of(Index.fromOneBased(3), Index.fromOneBased(1), Index.fromOneBased(2)),
+                new DayNumber(VALID_DAY_NUMBER),
+                List.of(LocalTime.parse("09:00"), LocalTime.parse("11:00"), LocalTime.parse("14:00")));
+
+        assertParseSuccess(parser, "3,1-2" + DAY_NUMBER_DESC + " st/09:00,11:00,14:00", expectedCommand);
+    }
+
+    @Test
+    public void parse_startTimeCountMismatch_failure() {
+        assertParseFailure(parser, "1,2" + DAY_NUMBER_DESC + START_TIME_DESC_1200, MESSAGE_INVALID_FORMAT);
+    }
 }
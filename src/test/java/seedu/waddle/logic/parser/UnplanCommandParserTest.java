@@ -4,6 +4,8 @@ import static seedu.waddle.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.waddle.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.waddle.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.waddle.commons.core.index.Index;
@@ -34,7 +36,7 @@ public class UnplanCommandParserTest {
         multiIndex.addIndex(Index.fromZeroBased(0));
         multiIndex.addIndex(Index.fromZeroBased(0));
         // no leading and trailing whitespaces
-        UnplanCommand expectedUnplanCommand = new UnplanCommand(multiIndex);
+        UnplanCommand expectedUnplanCommand = new UnplanCommand(List.of(multiIndex));
         assertParseSuccess(parser, "1.1", expectedUnplanCommand);
     }
 }
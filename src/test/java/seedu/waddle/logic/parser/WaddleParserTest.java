@@ -21,6 +21,7 @@ import static seedu.waddle.testutil.TypicalItems.getShopping;
 import static seedu.waddle.testutil.TypicalItineraries.getAutumn;
 import static seedu.waddle.testutil.TypicalItineraries.getGraduation;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -32,6 +33,8 @@ import seedu.waddle.commons.core.index.MultiIndex;
 import seedu.waddle.logic.StageManager;
 import seedu.waddle.logic.commands.AddCommand;
 import seedu.waddle.logic.commands.AddItemCommand;
+import seedu.waddle.logic.commands.AutoPlanCommand;
+import seedu.waddle.logic.commands.CancelCommand;
 import seedu.waddle.logic.commands.ClearCommand;
 import seedu.waddle.logic.commands.CopyCommand;
 import seedu.waddle.logic.commands.DeleteCommand;
@@ -44,6 +47,7 @@ import seedu.waddle.logic.commands.FindCommand;
 import seedu.waddle.logic.commands.FreeCommand;
 import seedu.waddle.logic.commands.HelpCommand;
 import seedu.waddle.logic.commands.HomeCommand;
+import seedu.waddle.logic.commands.ImportCommand;
 import seedu.waddle.logic.commands.ListCommand;
 import seedu.waddle.logic.commands.PdfCommand;
 import seedu.waddle.logic.commands.PlanCommand;
@@ -153,6 +157,17 @@ public class WaddleParserTest {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD + " 3") instanceof HelpCommand);
     }
 
+    @Test
+    public void parseCommand_cancel() throws Exception {
+        // switch to home page
+        StageManager.getInstance().setHomeStage();
+        assertTrue(parser.parseCommand(CancelCommand.COMMAND_WORD) instanceof CancelCommand);
+
+        // switch to itinerary page
+        StageManager.getInstance().setWishStage(getGraduation());
+        assertTrue(parser.parseCommand(CancelCommand.COMMAND_WORD) instanceof CancelCommand);
+    }
+
     @Test
     public void parseCommand_list() throws Exception {
         // switch to home page
@@ -250,6 +265,33 @@ public class WaddleParserTest {
                 -> parser.parseCommand(FreeCommand.COMMAND_WORD));
     }
 
+    @Test
+    public void parseCommand_autoPlan() throws Exception {
+        // switch to itinerary page
+        StageManager.getInstance().setWishStage(getGraduation());
+
+        assertEquals(new AutoPlanCommand(), parser.parseCommand(AutoPlanCommand.COMMAND_WORD));
+
+        // switch to home page
+        StageManager.getInstance().setHomeStage();
+        assertThrows(ParseException.class, MESSAGE_UNAVAILABLE_COMMAND_HOME, ()
+                -> parser.parseCommand(AutoPlanCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void parseCommand_import() throws Exception {
+        // switch to itinerary page
+        StageManager.getInstance().setWishStage(getGraduation());
+
+        assertEquals(new ImportCommand(Paths.get("wishlist.csv")),
+                parser.parseCommand(ImportCommand.COMMAND_WORD + " wishlist.csv"));
+
+        // switch to home page
+        StageManager.getInstance().setHomeStage();
+        assertThrows(ParseException.class, MESSAGE_UNAVAILABLE_COMMAND_HOME, ()
+                -> parser.parseCommand(ImportCommand.COMMAND_WORD + " wishlist.csv"));
+    }
+
     @Test
     public void parseCommand_planItem() throws Exception {
         // switch to itinerary page
@@ -259,8 +301,8 @@ public class WaddleParserTest {
 
         PlanCommand command = (PlanCommand) parser.parseCommand(
                 PlanCommand.COMMAND_WORD + " " + multiIndex + DAY_NUMBER_DESC + START_TIME_DESC_1200);
-        assertEquals(new PlanCommand(multiIndex.getTaskIndex(),
-                new DayNumber(VALID_DAY_NUMBER), VALID_START_TIME_1200), command);
+        assertEquals(new PlanCommand(List.of(multiIndex.getTaskIndex()),
+                new DayNumber(VALID_DAY_NUMBER), List.of(VALID_START_TIME_1200)), command);
 
         // switch to home page
         StageManager.getInstance().setHomeStage();
@@ -279,7 +321,7 @@ public class WaddleParserTest {
 
         UnplanCommand command = (UnplanCommand) parser.parseCommand(
                 UnplanCommand.COMMAND_WORD + " " + multiIndex);
-        assertEquals(new UnplanCommand(multiIndex), command);
+        assertEquals(new UnplanCommand(List.of(multiIndex)), command);
 
         // switch to home page
         StageManager.getInstance().setHomeStage();
@@ -308,11 +350,14 @@ public class WaddleParserTest {
 
         PdfCommand command = (PdfCommand) parser.parseCommand(PdfCommand.COMMAND_WORD);
         assertEquals(new PdfCommand(), command);
+        assertEquals(new PdfCommand(true),
+                parser.parseCommand(PdfCommand.COMMAND_WORD + " " + PdfCommand.COMPACT_LAYOUT));
 
         // switch to home page
         StageManager.getInstance().setHomeStage();
-        assertThrows(ParseException.class, MESSAGE_UNAVAILABLE_COMMAND_HOME, ()
-                -> parser.parseCommand(PdfCommand.COMMAND_WORD));
+        assertEquals(new PdfCommand(), parser.parseCommand(PdfCommand.COMMAND_WORD));
+        assertEquals(new PdfCommand(true),
+                parser.parseCommand(PdfCommand.COMMAND_WORD + " " + PdfCommand.COMPACT_LAYOUT));
     }
 
     @Test
@@ -1,7 +1,11 @@
 package seedu.waddle.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.waddle.testutil.Assert.assertThrows;
 
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 
 public class UserPrefsTest {
@@ -18,4 +22,15 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setWaddleFilePath(null));
     }
 
+    @Test
+    public void getLastWaddleStorageType_copiedWithPrefs() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertFalse(userPrefs.getLastWaddleStorageType().isPresent());
+        assertThrows(NullPointerException.class, () -> userPrefs.setLastWaddleStorageType(null));
+
+        userPrefs.setLastWaddleStorageType(UserPrefs.WaddleStorageType.BINARY);
+        assertEquals(Optional.of(UserPrefs.WaddleStorageType.BINARY),
+                new UserPrefs(userPrefs).getLastWaddleStorageType());
+    }
+
 }
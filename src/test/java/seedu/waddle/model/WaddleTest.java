@@ -20,6 +20,7 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.waddle.model.itinerary.Itinerary;
 import seedu.waddle.model.itinerary.exceptions.DuplicateItineraryException;
+import seedu.waddle.testutil.ItemBuilder;
 import seedu.waddle.testutil.ItineraryBuilder;
 
 
@@ -78,6 +79,30 @@ public class WaddleTest {
         assertTrue(waddle.hasItinerary(editedSummer));
     }
 
+    @Test
+    public void getVersion_afterChanges_increases() {
+        Itinerary itinerary = new ItineraryBuilder().withBudget("1000").build();
+        long version = waddle.getVersion();
+
+        waddle.addItinerary(itinerary);
+        assertTrue(waddle.getVersion() > version);
+
+        version = waddle.getVersion();
+        itinerary.addItem(new ItemBuilder().build());
+        itinerary.addItem(new ItemBuilder().withDesc("Museum").build());
+        assertTrue(waddle.getVersion() > version);
+
+        // removing an itinerary with many changes must not decrease the version
+        version = waddle.getVersion();
+        waddle.removeItinerary(itinerary);
+        assertTrue(waddle.getVersion() > version);
+
+        version = waddle.getVersion();
+        waddle.getItineraryList();
+        waddle.hasItinerary(SUMMER);
+        assertEquals(version, waddle.getVersion());
+    }
+
     @Test
     public void getItineraryList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> waddle.getItineraryList().remove(0));
@@ -97,6 +122,11 @@ public class WaddleTest {
         public ObservableList<Itinerary> getItineraryList() {
             return itineraries;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 
 }
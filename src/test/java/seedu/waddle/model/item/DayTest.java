@@ -1,14 +1,20 @@
 package seedu.waddle.model.item;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.waddle.commons.core.Messages.MESSAGE_CONFLICTING_ITEMS;
 import static seedu.waddle.commons.core.Messages.MESSAGE_ITEM_PAST_MIDNIGHT;
+import static seedu.waddle.testutil.Assert.assertThrows;
 
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import seedu.waddle.commons.core.index.Index;
 import seedu.waddle.logic.commands.exceptions.CommandException;
 import seedu.waddle.testutil.ItemBuilder;
 
@@ -107,6 +113,38 @@ public class DayTest {
         assert false : "A time conflict CommandException should have been thrown.";
     }
 
+    @Test
+    public void addItem_outOfOrder_keepsItemsSortedByStartTime() {
+        modifyDayStub();
+        for (int i = 1; i < dayStub.getItemSize(); i++) {
+            LocalTime previous = dayStub.getItemList().get(i - 1).getStartTime();
+            assertTrue(previous.isBefore(dayStub.getItemList().get(i).getStartTime()));
+        }
+    }
+
+    @Test
+    public void removeItem_thenAddIntoFreedSlot_success() {
+        Item freedSlotItem = new ItemBuilder().withDesc("freed slot").build();
+        freedSlotItem.setStartTime(LocalTime.NOON);
+
+        assertEquals(noonOneHour, dayStub.removeItem(Index.fromZeroBased(0)));
+        try {
+            dayStub.addItem(freedSlotItem);
+        } catch (CommandException e) {
+            assert false : "Removed item should no longer conflict";
+        }
+        assertEquals(1, dayStub.getItemSize());
+    }
+
+    @Test
+    public void getTotalCost_afterAddAndRemove() {
+        assertEquals(noonOneHour.getCost().getCents(), dayStub.getTotalCost());
+        modifyDayStub();
+        assertEquals(noonOneHour.getCost().getCents() * 5, dayStub.getTotalCost());
+        dayStub.removeItem(Index.fromZeroBased(0));
+        assertEquals(noonOneHour.getCost().getCents() * 4, dayStub.getTotalCost());
+    }
+
     @Test
     public void getVacantSlots_correctOutput() {
         modifyDayStub();
@@ -118,6 +156,32 @@ public class DayTest {
         assertEquals(expectedString, actualString);
     }
 
+    @Test
+    public void getVacantSlots_minimumLength_filtersShortSlots() {
+        modifyDayStub();
+        String expectedString = "Day 1:" + System.lineSeparator()
+                + "    13:00 - 23:00" + System.lineSeparator();
+        assertEquals(expectedString, dayStub.getVacantSlots(541));
+    }
+
+    @Test
+    public void getEarliestVacantPeriod() {
+        modifyDayStub();
+        assertEquals(LocalTime.parse("02:00"), dayStub.getEarliestVacantPeriod(60).get().getStart());
+        assertEquals(LocalTime.parse("13:00"), dayStub.getEarliestVacantPeriod(541).get().getStart());
+        assertTrue(dayStub.getEarliestVacantPeriod(601).isEmpty());
+
+        Item earlyItem = new ItemBuilder().withDesc("early item").build();
+        earlyItem.setStartTime(LocalTime.parse("01:00"));
+        Day day = new Day(0);
+        try {
+            day.addItem(earlyItem);
+        } catch (CommandException e) {
+            assert false : "Failed to add item to empty day";
+        }
+        assertEquals(LocalTime.MAX, day.getEarliestVacantPeriod(120).get().getEnd()); // runs to midnight
+    }
+
     @Test
     public void getTextRepresentation_correctOutput() {
         modifyDayStub();
@@ -156,6 +220,41 @@ public class DayTest {
         assertEquals(expectedString, actualString);
     }
 
+    @Test
+    public void constructor_sortedItems_sameAsAddingItems() {
+        modifyDayStub();
+        List<Item> items = new ArrayList<>(dayStub.getItemList().asUnmodifiableObservableList());
+        Day day = new Day(0, items);
+        assertEquals(dayStub.getItemList(), day.getItemList());
+        assertEquals(dayStub.getTotalCost(), day.getTotalCost());
+        assertEquals(dayStub.getVacantSlots(), day.getVacantSlots());
+    }
+
+    @Test
+    public void constructor_invalidSchedule_throwsIllegalArgumentException() {
+        Item earlyItem = new ItemBuilder().withDesc("early item").build();
+        earlyItem.setStartTime(LocalTime.parse("01:00"));
+        assertThrows(IllegalArgumentException.class, () -> new Day(0, List.of(noonOneHour, earlyItem)));
+    }
+
+    @Test
+    public void isValidSchedule() {
+        Item earlyItem = new ItemBuilder().withDesc("early item").build();
+        earlyItem.setStartTime(LocalTime.parse("01:00"));
+        Item overlappingItem = new ItemBuilder().withDesc("overlapping item").build();
+        overlappingItem.setStartTime(LocalTime.parse("12:30"));
+        Item lateItem = new ItemBuilder().withDesc("late item").build();
+        lateItem.setStartTime(LocalTime.parse("23:30"));
+        Item unplannedItem = new ItemBuilder().withDesc("unplanned item").build();
+
+        assertTrue(Day.isValidSchedule(List.of()));
+        assertTrue(Day.isValidSchedule(List.of(earlyItem, noonOneHour)));
+        assertFalse(Day.isValidSchedule(List.of(noonOneHour, earlyItem))); // not sorted
+        assertFalse(Day.isValidSchedule(List.of(noonOneHour, overlappingItem)));
+        assertFalse(Day.isValidSchedule(List.of(lateItem))); // past midnight
+        assertFalse(Day.isValidSchedule(List.of(unplannedItem)));
+    }
+
     private void modifyDayStub() {
         Item startAtMidnight = new ItemBuilder().withDesc("start at midnight").build();
         startAtMidnight.setStartTime(LocalTime.MIDNIGHT);
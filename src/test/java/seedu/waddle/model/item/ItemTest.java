@@ -96,6 +96,7 @@ public class ItemTest {
         // same values -> returns true, test does not work
         Item shoppingCopy = new ItemBuilder(getShopping()).build();
         assertTrue(shopping.equals(shoppingCopy));
+        assertEquals(shopping.hashCode(), shoppingCopy.hashCode());
 
         // same object -> returns true
         assertTrue(shopping.equals(shopping));
@@ -0,0 +1,89 @@
+package seedu.waddle.model.item;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.waddle.testutil.Assert.assertThrows;
+
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TimeSlotIndexTest {
+    private TimeSlotIndex timeSlots;
+
+    @BeforeEach
+    public void setUp() {
+        timeSlots = new TimeSlotIndex();
+        // 01:00 - 02:00, 12:00 - 13:00, 23:00 - 00:00
+        timeSlots.insert(0, 60, 120);
+        timeSlots.insert(1, 720, 780);
+        timeSlots.insert(2, 1380, 1440);
+    }
+
+    @Test
+    public void toMinuteOfDay() {
+        assertEquals(0, TimeSlotIndex.toMinuteOfDay(LocalTime.MIDNIGHT));
+        assertEquals(720, TimeSlotIndex.toMinuteOfDay(LocalTime.NOON));
+        assertEquals(1439, TimeSlotIndex.toMinuteOfDay(LocalTime.MAX));
+    }
+
+    @Test
+    public void firstEndingAfter() {
+        assertEquals(0, timeSlots.firstEndingAfter(0));
+        assertEquals(0, timeSlots.firstEndingAfter(119));
+        assertEquals(1, timeSlots.firstEndingAfter(120)); // touching end is not an overlap
+        assertEquals(2, timeSlots.firstEndingAfter(780));
+        assertEquals(3, timeSlots.firstEndingAfter(1440));
+    }
+
+    @Test
+    public void firstStartingFrom() {
+        assertEquals(0, timeSlots.firstStartingFrom(0));
+        assertEquals(0, timeSlots.firstStartingFrom(60));
+        assertEquals(1, timeSlots.firstStartingFrom(61));
+        assertEquals(3, timeSlots.firstStartingFrom(1381));
+    }
+
+    @Test
+    public void hasConflict() {
+        // adjacent slots
+        assertFalse(timeSlots.hasConflict(0, 60));
+        assertFalse(timeSlots.hasConflict(120, 720));
+        assertFalse(timeSlots.hasConflict(780, 1380));
+
+        // overlapping slots
+        assertTrue(timeSlots.hasConflict(30, 90)); // overlaps start
+        assertTrue(timeSlots.hasConflict(90, 150)); // overlaps end
+        assertTrue(timeSlots.hasConflict(720, 780)); // same slot
+        assertTrue(timeSlots.hasConflict(0, 1440)); // covers every slot
+    }
+
+    @Test
+    public void insert_growsBeyondInitialCapacity_keepsOrder() {
+        TimeSlotIndex index = new TimeSlotIndex();
+        for (int i = 0; i < 20; i++) {
+            index.insert(0, 1400 - i * 60, 1430 - i * 60);
+        }
+        assertEquals(20, index.size());
+        for (int i = 1; i < index.size(); i++) {
+            assertTrue(index.getEnd(i - 1) <= index.getStart(i));
+        }
+    }
+
+    @Test
+    public void remove_middleSlot_shiftsLaterSlots() {
+        timeSlots.remove(1);
+        assertEquals(2, timeSlots.size());
+        assertEquals(60, timeSlots.getStart(0));
+        assertEquals(1380, timeSlots.getStart(1));
+        assertFalse(timeSlots.hasConflict(720, 780));
+    }
+
+    @Test
+    public void remove_invalidPosition_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> timeSlots.remove(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> timeSlots.getStart(-1));
+    }
+}
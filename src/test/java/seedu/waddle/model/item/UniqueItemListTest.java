@@ -118,6 +118,16 @@ public class UniqueItemListTest {
         assertThrows(DuplicateItemException.class, () -> uniqueItemList.setItem(shopping, skinny));
     }
 
+    @Test
+    public void setItem_editedItemHasDifferentIdentity_updatesContains() {
+        Item shopping = getShopping();
+        Item skinny = getSkinny();
+        uniqueItemList.add(shopping);
+        uniqueItemList.setItem(shopping, skinny);
+        assertFalse(uniqueItemList.contains(shopping));
+        assertTrue(uniqueItemList.contains(skinny));
+    }
+
     @Test
     public void remove_itemDoesNotExist_throwsIndexOutOfBoundsException() {
         assertThrows(IndexOutOfBoundsException.class, () -> uniqueItemList.remove(4));
@@ -130,6 +140,7 @@ public class UniqueItemListTest {
         uniqueItemList.remove(0);
         UniqueItemList expectedUniqueItemList = new UniqueItemList();
         assertEquals(expectedUniqueItemList, uniqueItemList);
+        assertFalse(uniqueItemList.contains(shopping));
     }
 
     @Test
@@ -163,6 +174,7 @@ public class UniqueItemListTest {
         UniqueItemList expectedUniqueItemList = new UniqueItemList();
         expectedUniqueItemList.add(skinny);
         assertEquals(expectedUniqueItemList, uniqueItemList);
+        assertFalse(uniqueItemList.contains(shopping));
     }
 
     @Test
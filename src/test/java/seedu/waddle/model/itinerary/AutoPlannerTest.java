@@ -0,0 +1,86 @@
+package seedu.waddle.model.itinerary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.waddle.commons.core.index.Index;
+import seedu.waddle.model.item.Item;
+import seedu.waddle.testutil.ItemBuilder;
+import seedu.waddle.testutil.ItineraryBuilder;
+
+public class AutoPlannerTest {
+
+    @Test
+    public void plan_higherPriorityFirst_lowerPriorityOverBudget() {
+        Itinerary itinerary = new ItineraryBuilder().withDuration("1").withBudget("150").build();
+        Item cheap = new ItemBuilder().withDesc("cheap").withPriority(1).withCost("50").build();
+        Item valuable = new ItemBuilder().withDesc("valuable").withPriority(5).withCost("100").build();
+        Item expensive = new ItemBuilder().withDesc("expensive").withPriority(2).withCost("100").build();
+        itinerary.addItem(cheap);
+        itinerary.addItem(valuable);
+        itinerary.addItem(expensive);
+
+        AutoPlanner planner = new AutoPlanner(itinerary, AutoPlanner.DEFAULT_TIME_LIMIT_MILLIS);
+        planner.plan();
+
+        assertEquals(List.of(valuable, cheap), planner.getPlannedItems());
+        assertEquals(List.of(expensive), planner.getOverBudgetItems());
+        assertEquals(1, itinerary.getUnscheduledSize());
+        assertEquals(15000, itinerary.getBudget().getSpending());
+    }
+
+    @Test
+    public void plan_bestFit_leavesLongSlotForLongItem() throws Exception {
+        Itinerary itinerary = new ItineraryBuilder().withDuration("1").withBudget("1000").build();
+        // split the day into a 60 minute slot (00:00 - 01:00) and a long slot (02:00 - 24:00)
+        Item blocker = new ItemBuilder().withDesc("blocker").withPriority(1).withDuration("60").build();
+        itinerary.addItem(blocker);
+        itinerary.planItem(Index.fromOneBased(1), new DayNumber("1"),
+                LocalTime.parse("01:00"));
+        Item shortItem = new ItemBuilder().withDesc("short").withPriority(5).withDuration("60").build();
+        Item longItem = new ItemBuilder().withDesc("long").withPriority(4).withDuration("1320").build();
+        itinerary.addItem(shortItem);
+        itinerary.addItem(longItem);
+
+        AutoPlanner planner = new AutoPlanner(itinerary, AutoPlanner.DEFAULT_TIME_LIMIT_MILLIS);
+        planner.plan();
+
+        assertEquals(List.of(shortItem, longItem), planner.getPlannedItems());
+        assertEquals(LocalTime.MIDNIGHT, shortItem.getStartTime());
+        assertEquals(LocalTime.parse("02:00"), longItem.getStartTime());
+    }
+
+    @Test
+    public void plan_noVacantSlot_reportsUnfitItems() {
+        Itinerary itinerary = new ItineraryBuilder().withDuration("1").withBudget("1000").build();
+        Item allDay = new ItemBuilder().withDesc("all day").withPriority(5).withDuration("1440").build();
+        Item another = new ItemBuilder().withDesc("another").withPriority(1).withDuration("30").build();
+        itinerary.addItem(allDay);
+        itinerary.addItem(another);
+
+        AutoPlanner planner = new AutoPlanner(itinerary, AutoPlanner.DEFAULT_TIME_LIMIT_MILLIS);
+        planner.plan();
+
+        assertEquals(List.of(allDay), planner.getPlannedItems());
+        assertEquals(List.of(another), planner.getUnfitItems());
+        assertTrue(itinerary.hasItem(another));
+    }
+
+    @Test
+    public void plan_timeLimitReached_reportsTimedOutItems() {
+        Itinerary itinerary = new ItineraryBuilder().withDuration("1").withBudget("1000").build();
+        Item item = new ItemBuilder().build();
+        itinerary.addItem(item);
+
+        AutoPlanner planner = new AutoPlanner(itinerary, -1);
+        planner.plan();
+
+        assertEquals(List.of(item), planner.getTimedOutItems());
+        assertEquals(1, itinerary.getUnscheduledSize());
+    }
+}
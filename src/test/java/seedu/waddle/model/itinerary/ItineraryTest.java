@@ -8,12 +8,24 @@ import static seedu.waddle.logic.commands.CommandTestUtil.VALID_DURATION_WINTER;
 import static seedu.waddle.logic.commands.CommandTestUtil.VALID_ITINERARY_DESC_WINTER;
 import static seedu.waddle.logic.commands.CommandTestUtil.VALID_PEOPLE_WINTER;
 import static seedu.waddle.logic.commands.CommandTestUtil.VALID_START_DATE_WINTER;
+import static seedu.waddle.testutil.Assert.assertThrows;
 import static seedu.waddle.testutil.TypicalItineraries.AUTUMN;
 import static seedu.waddle.testutil.TypicalItineraries.SUMMER;
 import static seedu.waddle.testutil.TypicalItineraries.WINTER;
 
+import java.time.LocalTime;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.waddle.commons.core.index.Index;
+import seedu.waddle.commons.core.index.MultiIndex;
+import seedu.waddle.commons.exceptions.IllegalValueException;
+import seedu.waddle.logic.commands.exceptions.CommandException;
+import seedu.waddle.model.item.Item;
+import seedu.waddle.model.item.exceptions.DuplicateItemException;
+import seedu.waddle.model.itinerary.exceptions.ItineraryLoadException;
+import seedu.waddle.testutil.ItemBuilder;
 import seedu.waddle.testutil.ItineraryBuilder;
 
 public class ItineraryTest {
@@ -47,6 +59,183 @@ public class ItineraryTest {
         assertFalse(WINTER.isSameItinerary(editedWinter));
     }
 
+    @Test
+    public void addItem_duplicateOfPlannedItem_throwsDuplicateItemException() throws CommandException {
+        Itinerary itinerary = new ItineraryBuilder(AUTUMN).withDuration("2").build();
+        Item item = new ItemBuilder().build();
+        itinerary.addItem(item);
+        itinerary.planItem(Index.fromOneBased(1), new DayNumber("2"), LocalTime.NOON);
+
+        assertTrue(itinerary.hasItem(item));
+        assertThrows(DuplicateItemException.class, () -> itinerary.addItem(new ItemBuilder().build()));
+    }
+
+    @Test
+    public void addItems_duplicateItem_addsNothing() {
+        Itinerary itinerary = new ItineraryBuilder(AUTUMN).withBudget("1000").build();
+        itinerary.addItem(new ItemBuilder().build());
+        Item newItem = new ItemBuilder().withDesc("Museum").build();
+
+        assertThrows(DuplicateItemException.class, ()
+                -> itinerary.addItems(List.of(newItem, new ItemBuilder().build())));
+        assertFalse(itinerary.hasItem(newItem));
+
+        itinerary.addItems(List.of(newItem));
+        assertTrue(itinerary.hasItem(newItem));
+    }
+
+    @Test
+    public void getVersion_afterPlanAndUnplan() throws CommandException {
+        Itinerary itinerary = new ItineraryBuilder(AUTUMN).withDuration("1").withBudget("1000").build();
+        itinerary.addItem(new ItemBuilder().build());
+        itinerary.addItem(new ItemBuilder().withDesc("Museum").build());
+
+        long version = itinerary.getVersion();
+        itinerary.planItem(Index.fromOneBased(1), new DayNumber("1"), LocalTime.NOON);
+        assertTrue(itinerary.getVersion() > version);
+
+        version = itinerary.getVersion();
+        itinerary.getVacantSlots();
+        itinerary.hasItem(new ItemBuilder().build());
+        assertEquals(version, itinerary.getVersion());
+
+        version = itinerary.getVersion();
+        itinerary.unplanItem(new MultiIndex().addIndex(Index.fromOneBased(1)).addIndex(Index.fromOneBased(1)));
+        assertTrue(itinerary.getVersion() > version);
+    }
+
+    @Test
+    public void loadContents_validContents_loadedOnceWhenFirstNeeded() {
+        Itinerary source = new ItineraryBuilder(AUTUMN).withDuration("2").withBudget("1000").build();
+        int[] loadCount = {0};
+        Itinerary itinerary = new Itinerary(source.getDescription(), source.getCountry(), source.getStartDate(),
+                source.getDuration(), source.getPeople(), new Budget("1000"), new ItineraryContents() {
+                    @Override
+                    public void loadInto(Itinerary target) {
+                        loadCount[0]++;
+                        target.addItem(new ItemBuilder().build());
+                    }
+
+                    @Override
+                    public long getSpending() {
+                        return 500;
+                    }
+                });
+        assertEquals(500, itinerary.getBudget().getSpending());
+        assertEquals(0, loadCount[0]);
+
+        long version = itinerary.getVersion();
+        assertEquals(1, itinerary.getUnscheduledSize());
+        itinerary.getDays();
+        assertEquals(1, loadCount[0]);
+        assertEquals(2, itinerary.getDays().size());
+        assertEquals(0, itinerary.getBudget().getSpending());
+        assertEquals(version, itinerary.getVersion());
+        assertFalse(itinerary.getUnloadedContents().isPresent());
+    }
+
+    @Test
+    public void loadContents_invalidContents_throwsAndStaysUnloaded() {
+        Itinerary source = new ItineraryBuilder(AUTUMN).withDuration("2").withBudget("1000").build();
+        Itinerary itinerary = new Itinerary(source.getDescription(), source.getCountry(), source.getStartDate(),
+                source.getDuration(), source.getPeople(), new Budget("1000"), new ItineraryContents() {
+                    @Override
+                    public void loadInto(Itinerary target) throws IllegalValueException {
+                        target.addItem(new ItemBuilder().build());
+                        throw new IllegalValueException("Invalid item");
+                    }
+
+                    @Override
+                    public long getSpending() {
+                        return 0;
+                    }
+                });
+        long version = itinerary.getVersion();
+
+        assertThrows(ItineraryLoadException.class, () -> itinerary.getItemList());
+        assertTrue(itinerary.getUnloadedContents().isPresent());
+        assertEquals(version, itinerary.getVersion());
+        assertThrows(ItineraryLoadException.class, () -> itinerary.addItem(new ItemBuilder().build()));
+    }
+
+    @Test
+    public void hasItem_afterUnplanAndRemove() throws CommandException {
+        Itinerary itinerary = new ItineraryBuilder(AUTUMN).withDuration("1").build();
+        Item item = new ItemBuilder().build();
+        itinerary.addItem(item);
+        itinerary.planItem(Index.fromOneBased(1), new DayNumber("1"), LocalTime.NOON);
+
+        MultiIndex plannedIndex = new MultiIndex();
+        plannedIndex.addIndex(Index.fromOneBased(1));
+        plannedIndex.addIndex(Index.fromOneBased(1));
+        itinerary.unplanItem(plannedIndex);
+        assertTrue(itinerary.hasItem(item));
+
+        MultiIndex unscheduledIndex = new MultiIndex();
+        unscheduledIndex.addIndex(Index.fromOneBased(1));
+        itinerary.removeItem(unscheduledIndex);
+        assertFalse(itinerary.hasItem(item));
+    }
+
+    @Test
+    public void removeItem_plannedItem_updatesSpending() throws CommandException {
+        Itinerary itinerary = new ItineraryBuilder(AUTUMN).withDuration("1").withBudget("1000").build();
+        Item item = new ItemBuilder().build();
+        itinerary.addItem(item);
+        itinerary.planItem(Index.fromOneBased(1), new DayNumber("1"), LocalTime.NOON);
+        assertEquals(item.getCost().getCents(), itinerary.getBudget().getSpending());
+
+        MultiIndex plannedIndex = new MultiIndex();
+        plannedIndex.addIndex(Index.fromOneBased(1));
+        plannedIndex.addIndex(Index.fromOneBased(1));
+        itinerary.removeItem(plannedIndex);
+        assertEquals(0, itinerary.getBudget().getSpending());
+        assertEquals(0, itinerary.calculateSpending());
+    }
+
+    @Test
+    public void planItems_conflictWithinBatch_rollsBack() throws CommandException {
+        Itinerary itinerary = new ItineraryBuilder(AUTUMN).withDuration("1").withBudget("1000").build();
+        Item first = new ItemBuilder().withDesc("first").build();
+        Item second = new ItemBuilder().withDesc("second").build();
+        itinerary.addItem(first);
+        itinerary.addItem(second);
+
+        assertThrows(CommandException.class, () -> itinerary.planItems(
+                List.of(Index.fromOneBased(1), Index.fromOneBased(2)), new DayNumber("1"),
+                List.of(LocalTime.NOON, LocalTime.parse("12:30"))));
+        assertEquals(2, itinerary.getUnscheduledSize());
+        assertEquals(0, itinerary.getDays().get(0).getItemSize());
+        assertEquals(0, itinerary.getBudget().getSpending());
+        assertEquals(null, first.getStartTime());
+
+        itinerary.planItems(List.of(Index.fromOneBased(2), Index.fromOneBased(1)), new DayNumber("1"),
+                List.of(LocalTime.parse("13:00"), LocalTime.NOON));
+        assertEquals(0, itinerary.getUnscheduledSize());
+        assertEquals(2, itinerary.getDays().get(0).getItemSize());
+        assertEquals(first.getCost().getCents() + second.getCost().getCents(), itinerary.getBudget().getSpending());
+    }
+
+    @Test
+    public void unplanItems_invalidIndex_unplansNothing() throws CommandException {
+        Itinerary itinerary = new ItineraryBuilder(AUTUMN).withDuration("2").withBudget("1000").build();
+        itinerary.addItem(new ItemBuilder().withDesc("first").build());
+        itinerary.addItem(new ItemBuilder().withDesc("second").build());
+        itinerary.planItems(List.of(Index.fromOneBased(1), Index.fromOneBased(2)), new DayNumber("1"),
+                List.of(LocalTime.NOON, LocalTime.parse("13:00")));
+
+        MultiIndex firstItem = new MultiIndex().addIndex(Index.fromOneBased(1)).addIndex(Index.fromOneBased(1));
+        MultiIndex secondItem = new MultiIndex().addIndex(Index.fromOneBased(1)).addIndex(Index.fromOneBased(2));
+        MultiIndex missingItem = new MultiIndex().addIndex(Index.fromOneBased(2)).addIndex(Index.fromOneBased(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> itinerary.unplanItems(
+                List.of(firstItem, missingItem)));
+        assertEquals(2, itinerary.getDays().get(0).getItemSize());
+
+        itinerary.unplanItems(List.of(firstItem, secondItem));
+        assertEquals(2, itinerary.getUnscheduledSize());
+        assertEquals(0, itinerary.getBudget().getSpending());
+    }
+
     @Test
     public void getVacantSlots_correctOutput() {
         String expectedString = "Day 1:" + System.lineSeparator()
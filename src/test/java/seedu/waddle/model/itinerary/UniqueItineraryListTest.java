@@ -100,6 +100,8 @@ public class UniqueItineraryListTest {
         UniqueItineraryList expectedUniqueItineraryList = new UniqueItineraryList();
         expectedUniqueItineraryList.add(WINTER);
         assertEquals(expectedUniqueItineraryList, uniqueItineraryList);
+        assertFalse(uniqueItineraryList.contains(SUMMER));
+        assertTrue(uniqueItineraryList.contains(WINTER));
     }
 
     @Test
@@ -125,6 +127,7 @@ public class UniqueItineraryListTest {
         uniqueItineraryList.remove(SUMMER);
         UniqueItineraryList expectedUniqueItineraryList = new UniqueItineraryList();
         assertEquals(expectedUniqueItineraryList, uniqueItineraryList);
+        assertFalse(uniqueItineraryList.contains(SUMMER));
     }
 
     @Test
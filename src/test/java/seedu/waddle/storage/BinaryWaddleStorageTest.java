@@ -0,0 +1,172 @@
+package seedu.waddle.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.waddle.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalTime;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.waddle.commons.core.index.Index;
+import seedu.waddle.commons.exceptions.DataConversionException;
+import seedu.waddle.model.ReadOnlyWaddle;
+import seedu.waddle.model.Waddle;
+import seedu.waddle.model.itinerary.DayNumber;
+import seedu.waddle.model.itinerary.Itinerary;
+import seedu.waddle.model.itinerary.exceptions.ItineraryLoadException;
+import seedu.waddle.testutil.ItemBuilder;
+import seedu.waddle.testutil.ItineraryBuilder;
+
+public class BinaryWaddleStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path jsonFilePath;
+    private BinaryWaddleStorage storage;
+    private Waddle waddle;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        jsonFilePath = testFolder.resolve("waddle.json");
+        storage = new BinaryWaddleStorage(jsonFilePath);
+        // fresh itineraries, as the typical ones are shared between tests
+        waddle = new Waddle();
+        waddle.addItinerary(new ItineraryBuilder().withDescription("Autumn Hiking").withBudget("1000").build());
+        Itinerary spring = new ItineraryBuilder().withDescription("Spring Trip").withBudget("1000.50").build();
+        spring.addItem(new ItemBuilder().withDesc("Museum").withCost("12.30").build());
+        spring.addItem(new ItemBuilder().build());
+        spring.planItem(Index.fromOneBased(1), new DayNumber("1"), LocalTime.of(10, 30));
+        waddle.addItinerary(spring);
+    }
+
+    @Test
+    public void getWaddleFilePath_binaryFileNextToJsonFile() {
+        assertEquals(testFolder.resolve("waddle.bin"), storage.getWaddleFilePath());
+        assertEquals(testFolder.resolve("data.bin"),
+                BinaryWaddleStorage.getBinaryFilePath(testFolder.resolve("data")));
+    }
+
+    @Test
+    public void readWaddle_savedData_sameData() throws Exception {
+        storage.saveWaddle(waddle);
+        assertEquals(waddle, new Waddle(storage.readWaddle().get()));
+    }
+
+    @Test
+    public void saveWaddle_repeatedStrings_storedOnce() throws Exception {
+        Path samePath = testFolder.resolve("same.bin");
+        Path differentPath = testFolder.resolve("different.bin");
+        Itinerary first = new ItineraryBuilder().withDescription("First Trip").withCountry("Singapore").build();
+        Waddle sameCountry = new Waddle();
+        sameCountry.addItinerary(first);
+        sameCountry.addItinerary(new ItineraryBuilder().withDescription("Other Trip").withCountry("Singapore").build());
+        Waddle differentCountry = new Waddle();
+        differentCountry.addItinerary(first);
+        differentCountry.addItinerary(new ItineraryBuilder().withDescription("Other Trip").withCountry("Malaysia")
+                .build());
+
+        storage.saveWaddle(sameCountry, samePath);
+        storage.saveWaddle(differentCountry, differentPath);
+        // a new string takes its length and bytes in addition to the marker that takes the place of its index
+        assertEquals(Integer.BYTES + "Malaysia".length(), Files.size(differentPath) - Files.size(samePath));
+    }
+
+    @Test
+    public void readWaddle_noBinaryFile_readsJsonFile() throws Exception {
+        new JsonWaddleStorage(jsonFilePath).saveWaddle(waddle);
+        assertEquals(waddle, new Waddle(storage.readWaddle().get()));
+        assertFalse(new BinaryWaddleStorage(testFolder.resolve("missing.json")).readWaddle().isPresent());
+    }
+
+    @Test
+    public void readWaddle_jsonFileNewer_readsBinaryFile() throws Exception {
+        storage.saveWaddle(waddle);
+        new JsonWaddleStorage(jsonFilePath).saveWaddle(new Waddle());
+
+        assertEquals(waddle, new Waddle(storage.readWaddle().get()));
+    }
+
+    @Test
+    public void readWaddle_notBinaryFormat_throwsDataConversionException() throws Exception {
+        Files.writeString(storage.getWaddleFilePath(), "{ \"itineraries\" : [] }");
+        assertThrows(DataConversionException.class, "seedu.waddle.commons.exceptions.IllegalValueException: "
+                + BinaryWaddleFormat.MESSAGE_NOT_BINARY, () -> storage.readWaddle());
+    }
+
+    @Test
+    public void readWaddle_newerVersion_throwsDataConversionException() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(BinaryWaddleFormat.MAGIC);
+        out.writeInt(BinaryWaddleFormat.VERSION + 1);
+        Files.write(storage.getWaddleFilePath(), bytes.toByteArray());
+
+        assertThrows(DataConversionException.class, "seedu.waddle.commons.exceptions.IllegalValueException: "
+                + String.format(BinaryWaddleFormat.MESSAGE_UNSUPPORTED_VERSION, BinaryWaddleFormat.VERSION + 1,
+                BinaryWaddleFormat.VERSION), () -> storage.readWaddle());
+    }
+
+    @Test
+    public void readWaddle_incompleteFile_throwsDataConversionException() throws Exception {
+        storage.saveWaddle(waddle);
+        byte[] bytes = Files.readAllBytes(storage.getWaddleFilePath());
+        Files.write(storage.getWaddleFilePath(), Arrays.copyOf(bytes, bytes.length - 5));
+
+        assertThrows(DataConversionException.class, () -> storage.readWaddle());
+    }
+
+    @Test
+    public void readWaddle_corruptedStringLength_throwsDataConversionException() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(BinaryWaddleFormat.MAGIC);
+        out.writeInt(BinaryWaddleFormat.VERSION);
+        out.writeInt(1); // one itinerary
+        out.writeInt(-1); // a new string
+        out.writeInt(Integer.MAX_VALUE); // of a length far beyond the end of the file
+        out.writeBytes("Autumn");
+        Files.write(storage.getWaddleFilePath(), bytes.toByteArray());
+
+        assertThrows(DataConversionException.class, () -> storage.readWaddle());
+    }
+
+    @Test
+    public void saveWaddle_lazyInvalidItem_savedUnchanged() throws Exception {
+        new JsonWaddleStorage(jsonFilePath).saveWaddle(waddle);
+        Files.writeString(jsonFilePath, Files.readString(jsonFilePath).replace("12.3", "-12.3"));
+        BinaryWaddleStorage lazyStorage = new BinaryWaddleStorage(jsonFilePath, true);
+        ReadOnlyWaddle lazyWaddle = lazyStorage.readWaddle().get();
+        assertThrows(ItineraryLoadException.class, lazyWaddle.getItineraryList().get(1)::loadContents);
+
+        // contents that could not be loaded are saved as they were read, and do not stop the other itineraries
+        lazyStorage.saveWaddle(lazyWaddle);
+        ReadOnlyWaddle savedWaddle = lazyStorage.readWaddle().get();
+        assertThrows(ItineraryLoadException.class, savedWaddle.getItineraryList().get(1)::loadContents);
+        Path otherJsonFilePath = testFolder.resolve("other.json");
+        new JsonWaddleStorage(otherJsonFilePath).saveWaddle(savedWaddle);
+        assertEquals(Files.readString(jsonFilePath), Files.readString(otherJsonFilePath));
+    }
+
+    @Test
+    public void convertToJsonAndBack_sameData() throws Exception {
+        Path binaryFilePath = testFolder.resolve("converted.bin");
+        storage.saveWaddle(waddle);
+
+        assertTrue(BinaryWaddleStorage.convertToJson(storage.getWaddleFilePath(), jsonFilePath));
+        assertEquals(waddle, new Waddle(new JsonWaddleStorage(jsonFilePath).readWaddle().get()));
+
+        assertTrue(BinaryWaddleStorage.convertFromJson(jsonFilePath, binaryFilePath));
+        assertEquals(waddle, new Waddle(storage.readWaddle(binaryFilePath).get()));
+        assertFalse(BinaryWaddleStorage.convertFromJson(testFolder.resolve("missing.json"), binaryFilePath));
+    }
+}
@@ -0,0 +1,157 @@
+package seedu.waddle.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.waddle.testutil.Assert.assertThrows;
+import static seedu.waddle.testutil.TypicalItineraries.SUMMER;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.waddle.commons.exceptions.DataConversionException;
+import seedu.waddle.commons.util.JsonUtil;
+import seedu.waddle.model.Waddle;
+import seedu.waddle.model.itinerary.Itinerary;
+import seedu.waddle.testutil.ItemBuilder;
+import seedu.waddle.testutil.ItineraryBuilder;
+
+public class JournalWaddleStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private JournalWaddleStorage storage;
+    private Waddle waddle;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        storage = new JournalWaddleStorage(testFolder.resolve("waddle.json"));
+        // fresh itineraries, as the typical ones are shared between tests
+        waddle = new Waddle();
+        waddle.addItinerary(new ItineraryBuilder().withDescription("Autumn Hiking").withBudget("1000").build());
+        waddle.addItinerary(new ItineraryBuilder().withDescription("Spring Trip").withBudget("1000").build());
+        waddle.getItineraryList().get(1).addItem(new ItemBuilder().build());
+        storage.saveWaddle(waddle);
+    }
+
+    @Test
+    public void readWaddle_missingFiles_emptyResult() throws Exception {
+        assertFalse(new JournalWaddleStorage(testFolder.resolve("missing.json")).readWaddle().isPresent());
+    }
+
+    @Test
+    public void saveWaddle_firstSave_writesSnapshot() throws Exception {
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(waddle, new Waddle(new JsonWaddleStorage(storage.getWaddleFilePath()).readWaddle().get()));
+        assertEquals(waddle, new Waddle(storage.readWaddle().get()));
+    }
+
+    @Test
+    public void readWaddle_lazy_contentsLoadedWhenFirstNeeded() throws Exception {
+        Itinerary changed = waddle.getItineraryList().get(1);
+        changed.addItem(new ItemBuilder().withDesc("Museum").build());
+        storage.saveWaddle(waddle);
+
+        JournalWaddleStorage lazyStorage = new JournalWaddleStorage(storage.getWaddleFilePath(), false, true);
+        Itinerary lazy = lazyStorage.readWaddle().get().getItineraryList().get(1);
+        assertTrue(lazy.getUnloadedContents().isPresent());
+        assertEquals(changed.getItemList(), lazy.getItemList());
+    }
+
+    @Test
+    public void saveWaddle_changedItinerary_appendsOnlyThatItinerary() throws Exception {
+        Itinerary itinerary = waddle.getItineraryList().get(0);
+        itinerary.addItem(new ItemBuilder().withDesc("Museum").build());
+        storage.saveWaddle(waddle);
+
+        List<String> journal = Files.readAllLines(storage.getJournalFilePath());
+        assertEquals(1, journal.size());
+        JsonJournalRecord record = new JsonJournalRecord(null, List.of(new JsonAdaptedItinerary(itinerary)));
+        assertEquals(JsonUtil.toCompactJsonString(record), journal.get(0));
+        assertEquals(waddle, new Waddle(storage.readWaddle().get()));
+    }
+
+    @Test
+    public void saveWaddle_unchangedData_appendsNothing() throws Exception {
+        storage.saveWaddle(waddle);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+    }
+
+    @Test
+    public void saveWaddle_addEditAndRemoveItineraries_replaysInOrder() throws Exception {
+        waddle.addItinerary(SUMMER);
+        storage.saveWaddle(waddle);
+
+        Itinerary target = waddle.getItineraryList().get(0);
+        Itinerary renamed = new ItineraryBuilder(target).withDescription("Renamed Trip").build();
+        waddle.setItinerary(target, renamed);
+        storage.saveWaddle(waddle);
+
+        waddle.removeItinerary(waddle.getItineraryList().get(1));
+        storage.saveWaddle(waddle);
+
+        assertEquals(3, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(waddle, new Waddle(storage.readWaddle().get()));
+    }
+
+    @Test
+    public void readWaddle_incompleteLastRecord_skipsRecord() throws Exception {
+        waddle.getItineraryList().get(0).addItem(new ItemBuilder().withDesc("Museum").build());
+        storage.saveWaddle(waddle);
+        Files.write(storage.getJournalFilePath(), "{\"order\":[\"Autu".getBytes(), StandardOpenOption.APPEND);
+
+        assertEquals(waddle, new Waddle(storage.readWaddle().get()));
+    }
+
+    @Test
+    public void readWaddle_invalidRecordBeforeLast_throwsDataConversionException() throws Exception {
+        Files.write(storage.getJournalFilePath(), List.of("not a record", "{\"order\":null,\"itineraries\":[]}"));
+        assertThrows(DataConversionException.class, () -> storage.readWaddle());
+    }
+
+    @Test
+    public void readWaddle_unknownItineraryInOrder_throwsDataConversionException() throws Exception {
+        Files.write(storage.getJournalFilePath(), List.of("{\"order\":[\"Unknown Trip\"],\"itineraries\":[]}"));
+        assertThrows(DataConversionException.class, () -> storage.readWaddle());
+    }
+
+    @Test
+    public void saveWaddle_manySaves_journalCompacted() throws Exception {
+        Itinerary itinerary = waddle.getItineraryList().get(0);
+        for (int i = 0; i < 300; i++) {
+            itinerary.addItem(new ItemBuilder().withDesc("Item " + i).build());
+            storage.saveWaddle(waddle);
+        }
+
+        assertTrue(!Files.exists(storage.getJournalFilePath())
+                || Files.size(storage.getJournalFilePath()) < 2 * Files.size(storage.getWaddleFilePath()));
+        assertEquals(waddle, new Waddle(storage.readWaddle().get()));
+        assertEquals(waddle, new Waddle(new JournalWaddleStorage(storage.getWaddleFilePath()).readWaddle().get()));
+    }
+
+    @Test
+    public void saveWaddle_gzipSnapshot_compactedCompressed() throws Exception {
+        JournalWaddleStorage gzipStorage = new JournalWaddleStorage(testFolder.resolve("waddle.json.gz"));
+        gzipStorage.saveWaddle(waddle);
+
+        byte[] bytes = Files.readAllBytes(gzipStorage.getWaddleFilePath());
+        // the gzip magic number
+        assertEquals((byte) 0x1f, bytes[0]);
+        assertEquals((byte) 0x8b, bytes[1]);
+        assertEquals(waddle, new Waddle(gzipStorage.readWaddle().get()));
+    }
+
+    @Test
+    public void saveWaddle_otherFilePath_writesFullJson() throws Exception {
+        Path otherFilePath = testFolder.resolve("other.json");
+        storage.saveWaddle(waddle, otherFilePath);
+        assertEquals(waddle, new Waddle(new JsonWaddleStorage(otherFilePath).readWaddle().get()));
+    }
+}
@@ -5,17 +5,21 @@ import static seedu.waddle.storage.JsonAdaptedItinerary.MISSING_FIELD_MESSAGE_FO
 import static seedu.waddle.testutil.Assert.assertThrows;
 import static seedu.waddle.testutil.TypicalItineraries.SUMMER;
 
+import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.waddle.commons.exceptions.IllegalValueException;
+import seedu.waddle.model.item.Item;
+import seedu.waddle.model.item.UniqueItemList;
 import seedu.waddle.model.itinerary.Country;
 import seedu.waddle.model.itinerary.Date;
 import seedu.waddle.model.itinerary.Description;
 import seedu.waddle.model.itinerary.ItineraryDuration;
 import seedu.waddle.model.itinerary.People;
+import seedu.waddle.testutil.ItemBuilder;
 
 public class JsonAdaptedItineraryTest {
     private static final String INVALID_NAME = "S@mmer Trip";
@@ -121,4 +125,44 @@ public class JsonAdaptedItineraryTest {
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, People.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, itinerary::toModelType);
     }
+
+    @Test
+    public void toModelType_unsortedItems_sortedByStartTime() throws Exception {
+        Item noon = new ItemBuilder().withDesc("Noon").build();
+        noon.setStartTime(LocalTime.NOON);
+        Item morning = new ItemBuilder().withDesc("Morning").build();
+        morning.setStartTime(LocalTime.parse("09:00"));
+        List<JsonAdaptedDay> days = List.of(new JsonAdaptedDay(0,
+                List.of(new JsonAdaptedItem(noon), new JsonAdaptedItem(morning))));
+        JsonAdaptedItinerary itinerary = new JsonAdaptedItinerary(VALID_NAME, VALID_COUNTRY, VALID_START_DATE,
+                VALID_DURATION, VALID_PEOPLE, VALID_BUDGET, VALID_EMPTY_ITEM_LIST, days);
+        UniqueItemList items = itinerary.toModelType().getDays().get(0).getItemList();
+        assertEquals(morning, items.get(0));
+        assertEquals(noon, items.get(1));
+    }
+
+    @Test
+    public void toModelType_clashingItems_throwsIllegalValueException() {
+        Item noon = new ItemBuilder().withDesc("Noon").build();
+        noon.setStartTime(LocalTime.NOON);
+        Item morning = new ItemBuilder().withDesc("Morning").build();
+        morning.setStartTime(LocalTime.parse("11:30"));
+        List<JsonAdaptedDay> days = List.of(new JsonAdaptedDay(0,
+                List.of(new JsonAdaptedItem(noon), new JsonAdaptedItem(morning))));
+        JsonAdaptedItinerary itinerary = new JsonAdaptedItinerary(VALID_NAME, VALID_COUNTRY, VALID_START_DATE,
+                VALID_DURATION, VALID_PEOPLE, VALID_BUDGET, VALID_EMPTY_ITEM_LIST, days);
+        String expectedMessage = String.format(JsonAdaptedDay.MESSAGE_CLASHING_ITEMS, 0);
+        assertThrows(IllegalValueException.class, expectedMessage, itinerary::toModelType);
+    }
+
+    @Test
+    public void toModelType_duplicateItems_throwsIllegalValueException() {
+        Item item = new ItemBuilder().build();
+        item.setStartTime(LocalTime.NOON);
+        List<JsonAdaptedDay> days = List.of(new JsonAdaptedDay(0, List.of(new JsonAdaptedItem(item))));
+        JsonAdaptedItinerary itinerary = new JsonAdaptedItinerary(VALID_NAME, VALID_COUNTRY, VALID_START_DATE,
+                VALID_DURATION, VALID_PEOPLE, VALID_BUDGET, List.of(new JsonAdaptedItem(item)), days);
+        assertThrows(IllegalValueException.class, JsonAdaptedItinerary.MESSAGE_DUPLICATE_ITEM,
+                itinerary::toModelType);
+    }
 }
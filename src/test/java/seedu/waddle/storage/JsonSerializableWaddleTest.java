@@ -5,12 +5,16 @@ import static seedu.waddle.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.waddle.commons.exceptions.IllegalValueException;
 import seedu.waddle.commons.util.JsonUtil;
 import seedu.waddle.model.Waddle;
+import seedu.waddle.model.itinerary.Country;
+import seedu.waddle.testutil.ItineraryBuilder;
 import seedu.waddle.testutil.TypicalItineraries;
 
 public class JsonSerializableWaddleTest {
@@ -44,4 +48,26 @@ public class JsonSerializableWaddleTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_manyInvalidItineraries_throwsFirstErrorInOrder() {
+        List<JsonAdaptedItinerary> itineraries = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            itineraries.add(new JsonAdaptedItinerary(new ItineraryBuilder().withDescription("Trip " + i).build()));
+        }
+        itineraries.set(40, withDetails("Trip 40", "Invalid%", "1"));
+        itineraries.set(70, withDetails("Trip 70", "Japan", "0"));
+        assertThrows(IllegalValueException.class, Country.MESSAGE_CONSTRAINTS, () -> new JsonSerializableWaddle(
+                itineraries).toModelType());
+
+        // a duplicate is reported if it comes before any invalid itinerary
+        itineraries.set(20, withDetails("Trip 10", "Japan", "1"));
+        assertThrows(IllegalValueException.class, JsonSerializableWaddle.MESSAGE_DUPLICATE_ITINERARY, () ->
+                new JsonSerializableWaddle(itineraries).toModelType());
+    }
+
+    private static JsonAdaptedItinerary withDetails(String description, String country, String people) {
+        return new JsonAdaptedItinerary(description, country, ItineraryBuilder.DEFAULT_START_DATE,
+                ItineraryBuilder.DEFAULT_DURATION, people, ItineraryBuilder.DEFAULT_BUDGET, List.of(), List.of());
+    }
+
 }
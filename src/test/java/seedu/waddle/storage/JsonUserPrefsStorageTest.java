@@ -62,6 +62,12 @@ public class JsonUserPrefsStorageTest {
         assertEquals(new UserPrefs(), actual);
     }
 
+    @Test
+    public void readUserPrefs_invalidValuesInFile_defaultValuesUsed() throws DataConversionException {
+        UserPrefs actual = readUserPrefs("InvalidValuesUserPrefs.json").get();
+        assertEquals(new UserPrefs(), actual);
+    }
+
     @Test
     public void readUserPrefs_extraValuesInFile_extraValuesIgnored() throws DataConversionException {
         UserPrefs expected = getTypicalUserPrefs();
@@ -2,6 +2,7 @@ package seedu.waddle.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.waddle.testutil.Assert.assertThrows;
 import static seedu.waddle.testutil.TypicalItineraries.SPRING;
 import static seedu.waddle.testutil.TypicalItineraries.SUMMER;
@@ -9,15 +10,26 @@ import static seedu.waddle.testutil.TypicalItineraries.WINTER;
 import static seedu.waddle.testutil.TypicalItineraries.getTypicalWaddle;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.waddle.commons.core.index.Index;
 import seedu.waddle.commons.exceptions.DataConversionException;
 import seedu.waddle.model.ReadOnlyWaddle;
 import seedu.waddle.model.Waddle;
+import seedu.waddle.model.itinerary.DayNumber;
+import seedu.waddle.model.itinerary.Itinerary;
+import seedu.waddle.model.itinerary.exceptions.ItineraryLoadException;
+import seedu.waddle.testutil.ItemBuilder;
+import seedu.waddle.testutil.ItineraryBuilder;
 
 public class JsonWaddleStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonWaddleStorageTest");
@@ -86,6 +98,84 @@ public class JsonWaddleStorageTest {
 
     }
 
+    @Test
+    public void saveWaddle_existingFile_replacedWithoutTemporaryFile() throws Exception {
+        Path filePath = testFolder.resolve("TempWaddle.json.gz");
+        JsonWaddleStorage jsonWaddleStorage = new JsonWaddleStorage(filePath);
+        jsonWaddleStorage.saveWaddle(getTypicalWaddle());
+        Waddle original = getTypicalWaddle();
+        original.addItinerary(SUMMER);
+
+        jsonWaddleStorage.saveWaddle(original);
+        assertEquals(original, new Waddle(jsonWaddleStorage.readWaddle().get()));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(List.of(filePath), files.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void readAndSaveWaddle_gzipFile_smallerAndSameData() throws Exception {
+        Path filePath = testFolder.resolve("TempWaddle.json");
+        Path gzipFilePath = testFolder.resolve("TempWaddle.json.gz");
+        Waddle original = getTypicalWaddle();
+        JsonWaddleStorage jsonWaddleStorage = new JsonWaddleStorage(gzipFilePath);
+
+        jsonWaddleStorage.saveWaddle(original);
+        new JsonWaddleStorage(filePath).saveWaddle(original);
+        assertTrue(Files.size(gzipFilePath) < Files.size(filePath));
+        assertEquals(original, new Waddle(jsonWaddleStorage.readWaddle().get()));
+    }
+
+    @Test
+    public void readWaddle_lazy_sameDataOnceLoaded() throws Exception {
+        Path filePath = testFolder.resolve("TempWaddle.json");
+        Waddle original = createWaddleWithPlannedItem();
+        new JsonWaddleStorage(filePath).saveWaddle(original);
+
+        Itinerary expected = original.getItineraryList().get(0);
+        Itinerary lazy = new JsonWaddleStorage(filePath, false, true).readWaddle().get().getItineraryList().get(0);
+        assertTrue(lazy.getUnloadedContents().isPresent());
+        assertEquals(expected, lazy);
+        assertEquals(expected.getBudget().getSpending(), lazy.getBudget().getSpending());
+
+        long version = lazy.getVersion();
+        lazy.loadContents();
+        assertEquals(version, lazy.getVersion());
+        assertEquals(expected.getItemList(), lazy.getItemList());
+        for (int i = 0; i < expected.getDays().size(); i++) {
+            assertEquals(expected.getDays().get(i).getItemList(), lazy.getDays().get(i).getItemList());
+        }
+    }
+
+    @Test
+    public void readWaddle_lazyInvalidItem_failsOnlyWhenLoadedAndSavedUnchanged() throws Exception {
+        Path filePath = testFolder.resolve("TempWaddle.json");
+        new JsonWaddleStorage(filePath).saveWaddle(createWaddleWithPlannedItem());
+        Files.writeString(filePath, Files.readString(filePath).replace("12.3", "-12.3"));
+
+        JsonWaddleStorage lazyStorage = new JsonWaddleStorage(filePath, false, true);
+        ReadOnlyWaddle waddle = lazyStorage.readWaddle().get();
+        Itinerary itinerary = waddle.getItineraryList().get(0);
+        assertThrows(ItineraryLoadException.class, itinerary::loadContents);
+
+        // contents that could not be loaded are saved as they were read
+        Path otherFilePath = testFolder.resolve("OtherWaddle.json");
+        lazyStorage.saveWaddle(waddle, otherFilePath);
+        assertTrue(itinerary.getUnloadedContents().isPresent());
+        assertEquals(Files.readString(filePath), Files.readString(otherFilePath));
+    }
+
+    private Waddle createWaddleWithPlannedItem() throws Exception {
+        // a fresh itinerary, as the typical ones are shared between tests
+        Itinerary itinerary = new ItineraryBuilder().withDescription("Spring Trip").withBudget("1000").build();
+        itinerary.addItem(new ItemBuilder().withDesc("Museum").withCost("12.30").build());
+        itinerary.addItem(new ItemBuilder().build());
+        itinerary.planItem(Index.fromOneBased(1), new DayNumber("1"), LocalTime.NOON);
+        Waddle waddle = new Waddle();
+        waddle.addItinerary(itinerary);
+        return waddle;
+    }
+
     @Test
     public void saveWaddle_nullWaddle_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveWaddle(null, "SomeFile.json"));
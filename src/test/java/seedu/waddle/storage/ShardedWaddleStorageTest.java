@@ -0,0 +1,169 @@
+package seedu.waddle.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.waddle.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.waddle.commons.exceptions.DataConversionException;
+import seedu.waddle.model.Waddle;
+import seedu.waddle.model.itinerary.Itinerary;
+import seedu.waddle.testutil.ItemBuilder;
+import seedu.waddle.testutil.ItineraryBuilder;
+
+public class ShardedWaddleStorageTest {
+
+    private static final FileTime OLD_TIME = FileTime.fromMillis(0);
+
+    @TempDir
+    public Path testFolder;
+
+    private ShardedWaddleStorage storage;
+    private Waddle waddle;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        storage = new ShardedWaddleStorage(testFolder.resolve("waddle.json"));
+        // fresh itineraries, as the typical ones are shared between tests
+        waddle = new Waddle();
+        waddle.addItinerary(new ItineraryBuilder().withDescription("Autumn Hiking").withBudget("1000").build());
+        waddle.addItinerary(new ItineraryBuilder().withDescription("Spring Trip").withBudget("1000").build());
+        waddle.getItineraryList().get(1).addItem(new ItemBuilder().build());
+        storage.saveWaddle(waddle);
+    }
+
+    @Test
+    public void getWaddleFilePath_manifestInDirectoryOfDataFile() {
+        assertEquals(testFolder.resolve("waddle").resolve(ShardedWaddleStorage.MANIFEST_FILE_NAME),
+                storage.getWaddleFilePath());
+    }
+
+    @Test
+    public void readWaddle_savedData_sameData() throws Exception {
+        assertEquals(waddle, new Waddle(storage.readWaddle().get()));
+        assertEquals(waddle, new Waddle(new ShardedWaddleStorage(testFolder.resolve("waddle.json"))
+                .readWaddle().get()));
+    }
+
+    @Test
+    public void readWaddle_noManifest_readsJsonDataFile() throws Exception {
+        Path jsonFilePath = testFolder.resolve("old.json");
+        new JsonWaddleStorage(jsonFilePath).saveWaddle(waddle);
+
+        assertEquals(waddle, new Waddle(new ShardedWaddleStorage(jsonFilePath).readWaddle().get()));
+        assertFalse(new ShardedWaddleStorage(testFolder.resolve("missing.json")).readWaddle().isPresent());
+    }
+
+    @Test
+    public void saveWaddle_oneItineraryChanged_onlyItsFileRewritten() throws Exception {
+        Path directory = storage.getWaddleFilePath().getParent();
+        Path changedFile = directory.resolve(getFileName(0));
+        Path unchangedFile = directory.resolve(getFileName(1));
+        for (Path file : List.of(changedFile, unchangedFile, storage.getWaddleFilePath())) {
+            Files.setLastModifiedTime(file, OLD_TIME);
+        }
+
+        waddle.getItineraryList().get(0).addItem(new ItemBuilder().withDesc("Museum").build());
+        storage.saveWaddle(waddle);
+
+        assertNotEquals(OLD_TIME, Files.getLastModifiedTime(changedFile));
+        assertEquals(OLD_TIME, Files.getLastModifiedTime(unchangedFile));
+        assertEquals(OLD_TIME, Files.getLastModifiedTime(storage.getWaddleFilePath()));
+        assertEquals(waddle, new Waddle(storage.readWaddle().get()));
+    }
+
+    @Test
+    public void saveWaddle_afterRead_unchangedFilesNotRewritten() throws Exception {
+        ShardedWaddleStorage newStorage = new ShardedWaddleStorage(testFolder.resolve("waddle.json"));
+        Waddle readWaddle = new Waddle(newStorage.readWaddle().get());
+        Path file = storage.getWaddleFilePath().getParent().resolve(getFileName(1));
+        Files.setLastModifiedTime(file, OLD_TIME);
+
+        newStorage.saveWaddle(readWaddle);
+        assertEquals(OLD_TIME, Files.getLastModifiedTime(file));
+    }
+
+    @Test
+    public void saveWaddle_itineraryRemovedAndRenamed_oldFilesDeleted() throws Exception {
+        Path directory = storage.getWaddleFilePath().getParent();
+        Path removedFile = directory.resolve(getFileName(0));
+        Path renamedFile = directory.resolve(getFileName(1));
+
+        waddle.removeItinerary(waddle.getItineraryList().get(0));
+        Itinerary target = waddle.getItineraryList().get(0);
+        waddle.setItinerary(target, new ItineraryBuilder(target).withDescription("Renamed Trip").build());
+        storage.saveWaddle(waddle);
+
+        assertFalse(Files.exists(removedFile));
+        assertFalse(Files.exists(renamedFile));
+        assertTrue(Files.exists(directory.resolve(getFileName(0))));
+        assertEquals(waddle, new Waddle(storage.readWaddle().get()));
+    }
+
+    @Test
+    public void readWaddle_invalidItineraryFiles_throwsFirstErrorInOrder() throws Exception {
+        Path directory = storage.getWaddleFilePath().getParent();
+        Files.writeString(directory.resolve(getFileName(1)), "not json");
+        Files.delete(directory.resolve(getFileName(0)));
+
+        assertThrows(DataConversionException.class, "seedu.waddle.commons.exceptions.IllegalValueException: "
+                + String.format(ShardedWaddleStorage.MESSAGE_MISSING_ITINERARY_FILE, getFileName(0)), ()
+                -> storage.readWaddle());
+    }
+
+    @Test
+    public void readWaddle_lazy_contentsLoadedWhenFirstNeeded() throws Exception {
+        ShardedWaddleStorage lazyStorage = new ShardedWaddleStorage(testFolder.resolve("waddle.json"), false, true);
+        Itinerary lazy = lazyStorage.readWaddle().get().getItineraryList().get(1);
+
+        assertTrue(lazy.getUnloadedContents().isPresent());
+        assertEquals(waddle.getItineraryList().get(1).getItemList(), lazy.getItemList());
+    }
+
+    @Test
+    public void getItineraryFileName_similarDescriptions_distinctNames() {
+        Itinerary lowerCase = new ItineraryBuilder().withDescription("trip").build();
+        Itinerary upperCase = new ItineraryBuilder().withDescription("Trip").build();
+        Itinerary punctuated = new ItineraryBuilder().withDescription("Trip!").build();
+
+        assertNotEquals(ShardedWaddleStorage.getItineraryFileName(lowerCase),
+                ShardedWaddleStorage.getItineraryFileName(upperCase));
+        assertNotEquals(ShardedWaddleStorage.getItineraryFileName(upperCase),
+                ShardedWaddleStorage.getItineraryFileName(punctuated));
+    }
+
+    @Test
+    public void saveWaddle_sameFileNames_distinctFiles() throws Exception {
+        // the descriptions differ only in their last two characters, which have the same hash
+        String prefix = "A Very Long Trip Through Every Country Of";
+        Itinerary first = new ItineraryBuilder().withDescription(prefix + " Aa").build();
+        Itinerary second = new ItineraryBuilder().withDescription(prefix + " BB").build();
+        assertEquals(ShardedWaddleStorage.getItineraryFileName(first),
+                ShardedWaddleStorage.getItineraryFileName(second));
+        waddle.addItinerary(first);
+        waddle.addItinerary(second);
+        storage.saveWaddle(waddle);
+        assertEquals(waddle, new Waddle(storage.readWaddle().get()));
+
+        // the second itinerary keeps its own file once the first one is gone
+        waddle.removeItinerary(first);
+        storage.saveWaddle(waddle);
+        assertEquals(waddle, new Waddle(storage.readWaddle().get()));
+        assertEquals(waddle, new Waddle(new ShardedWaddleStorage(testFolder.resolve("waddle.json"))
+                .readWaddle().get()));
+    }
+
+    private String getFileName(int index) {
+        return ShardedWaddleStorage.getItineraryFileName(waddle.getItineraryList().get(index));
+    }
+}
@@ -0,0 +1,139 @@
+package seedu.waddle.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import seedu.waddle.commons.core.index.Index;
+import seedu.waddle.model.ReadOnlyWaddle;
+import seedu.waddle.model.Waddle;
+import seedu.waddle.model.itinerary.DayNumber;
+import seedu.waddle.model.itinerary.Itinerary;
+import seedu.waddle.testutil.ItemBuilder;
+import seedu.waddle.testutil.ItineraryBuilder;
+
+/**
+ * Measures how long it takes to save and load Waddle data of a given size with each storage format,
+ * and to convert the read data into the model with and without parallelism.
+ * Run with {@code gradlew benchmark}, optionally with {@code --args="<itineraries> <items per itinerary>"}.
+ * This is not a test, as timings depend on the machine.
+ */
+public class StorageBenchmark {
+
+    private static final int DEFAULT_ITINERARY_COUNT = 200;
+    private static final int DEFAULT_ITEM_COUNT = 100;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+    private static final String[] COUNTRIES = {"Singapore", "Japan", "Malaysia", "Korea", "Thailand"};
+
+    /**
+     * A task that is timed by the benchmark.
+     */
+    private interface Task {
+        void run() throws Exception;
+    }
+
+    /**
+     * Runs the benchmark.
+     */
+    public static void main(String[] args) throws Exception {
+        int itineraryCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ITINERARY_COUNT;
+        int itemCount = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_ITEM_COUNT;
+        ReadOnlyWaddle waddle = createWaddle(itineraryCount, itemCount);
+        System.out.printf("%d itineraries with %d items each%n", itineraryCount, itemCount);
+
+        Path folder = Files.createTempDirectory("waddle-benchmark");
+        try {
+            JsonWaddleStorage jsonStorage = new JsonWaddleStorage(folder.resolve("pretty.json"));
+            JsonWaddleStorage compactJsonStorage = new JsonWaddleStorage(folder.resolve("compact.json"), true);
+            JsonWaddleStorage gzipJsonStorage = new JsonWaddleStorage(folder.resolve("compact.json.gz"), true);
+            BinaryWaddleStorage binaryStorage = new BinaryWaddleStorage(folder.resolve("binary.json"));
+
+            benchmark("json", jsonStorage, waddle);
+            benchmark("compact json", compactJsonStorage, waddle);
+            benchmark("gzip json", gzipJsonStorage, waddle);
+            benchmark("binary", binaryStorage, waddle);
+            benchmarkConversion(new JsonSerializableWaddle(waddle));
+        } finally {
+            deleteRecursively(folder);
+        }
+    }
+
+    private static void benchmark(String name, WaddleStorage storage, ReadOnlyWaddle waddle) throws Exception {
+        double saveMillis = time(() -> storage.saveWaddle(waddle));
+        double loadMillis = time(() -> storage.readWaddle());
+        long size = Files.size(storage.getWaddleFilePath());
+        System.out.printf("%-14s save %8.2f ms   load %8.2f ms   size %,12d bytes%n",
+                name, saveMillis, loadMillis, size);
+    }
+
+    /**
+     * Compares converting the read data into the model on one thread and on all available processors.
+     */
+    private static void benchmarkConversion(JsonSerializableWaddle jsonWaddle) throws Exception {
+        int processors = Runtime.getRuntime().availableProcessors();
+        // a parallel stream runs in the pool of the thread that starts it
+        ForkJoinPool singleThreadPool = new ForkJoinPool(1);
+        try {
+            double sequentialMillis = time(() -> singleThreadPool.submit(() -> jsonWaddle.toModelType()).get());
+            double parallelMillis = time(() -> jsonWaddle.toModelType());
+            System.out.printf("%-14s 1 thread %8.2f ms   %d threads %8.2f ms   speedup %.2fx%n", "convert",
+                    sequentialMillis, processors, parallelMillis, sequentialMillis / parallelMillis);
+        } finally {
+            singleThreadPool.shutdown();
+        }
+    }
+
+    /**
+     * Returns the average time taken by {@code task} in milliseconds, after some rounds to warm up.
+     */
+    private static double time(Task task) throws Exception {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            task.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            task.run();
+        }
+        return (System.nanoTime() - start) / 1e6 / MEASURED_ROUNDS;
+    }
+
+    /**
+     * Returns Waddle data with {@code itineraryCount} itineraries of {@code itemCount} items each.
+     * A fifth of the items of each itinerary are planned on its first day.
+     */
+    static Waddle createWaddle(int itineraryCount, int itemCount) throws Exception {
+        Waddle waddle = new Waddle();
+        for (int i = 0; i < itineraryCount; i++) {
+            Itinerary itinerary = new ItineraryBuilder().withDescription("Trip " + i)
+                    .withCountry(COUNTRIES[i % COUNTRIES.length]).withDuration("3").withBudget("1000000").build();
+            for (int j = 0; j < itemCount; j++) {
+                itinerary.addItem(new ItemBuilder().withDesc("Activity " + j).withCost(j + ".50")
+                        .withDuration("1").withPriority(j % 5 + 1).build());
+            }
+            List<Index> plannedIndices = new ArrayList<>();
+            List<LocalTime> startTimes = new ArrayList<>();
+            for (int j = 0; j < Math.min(itemCount / 5, 24 * 60); j++) {
+                plannedIndices.add(Index.fromZeroBased(j));
+                startTimes.add(LocalTime.MIN.plusMinutes(j));
+            }
+            itinerary.planItems(plannedIndices, new DayNumber("1"), startTimes);
+            waddle.addItinerary(itinerary);
+        }
+        return waddle;
+    }
+
+    private static void deleteRecursively(Path folder) throws IOException {
+        try (Stream<Path> paths = Files.walk(folder)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package seedu.waddle.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.waddle.testutil.Assert.assertThrows;
+import static seedu.waddle.testutil.TypicalItineraries.SUMMER;
+import static seedu.waddle.testutil.TypicalItineraries.WINTER;
+import static seedu.waddle.testutil.TypicalItineraries.getTypicalWaddle;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.waddle.model.Waddle;
+
+public class WriteBehindWaddleStorageTest {
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveWaddle_thenFlush_writesLatestData() throws Exception {
+        Path filePath = testFolder.resolve("waddle.json");
+        WriteBehindWaddleStorage storage = new WriteBehindWaddleStorage(new JsonWaddleStorage(filePath));
+        Waddle original = getTypicalWaddle();
+
+        storage.saveWaddle(original);
+        original.addItinerary(SUMMER);
+        storage.saveWaddle(original);
+        storage.flush();
+        assertEquals(original, new Waddle(storage.readWaddle().get()));
+    }
+
+    @Test
+    public void saveWaddle_changeAfterSave_notWritten() throws Exception {
+        Path filePath = testFolder.resolve("waddle.json");
+        WriteBehindWaddleStorage storage = new WriteBehindWaddleStorage(new JsonWaddleStorage(filePath));
+        Waddle original = getTypicalWaddle();
+
+        storage.saveWaddle(original);
+        Waddle saved = new Waddle(original);
+        original.addItinerary(WINTER);
+        storage.flush();
+        assertEquals(saved, new Waddle(storage.readWaddle().get()));
+    }
+
+    @Test
+    public void saveWaddle_whileWriterBusy_coalescesSaves() throws Exception {
+        BlockingJsonWaddleStorage jsonStorage = new BlockingJsonWaddleStorage(testFolder.resolve("waddle.json"));
+        WriteBehindWaddleStorage storage = new WriteBehindWaddleStorage(jsonStorage);
+        Waddle original = getTypicalWaddle();
+
+        storage.saveWaddle(original);
+        jsonStorage.writeStarted.await();
+        original.addItinerary(SUMMER);
+        storage.saveWaddle(original);
+        original.addItinerary(WINTER);
+        storage.saveWaddle(original);
+        jsonStorage.finishWrite.countDown();
+        storage.flush();
+
+        assertEquals(2, jsonStorage.writeCount.get());
+        assertEquals(original, new Waddle(storage.readWaddle().get()));
+    }
+
+    @Test
+    public void saveWaddle_otherFilePath_writtenImmediately() throws Exception {
+        WriteBehindWaddleStorage storage =
+                new WriteBehindWaddleStorage(new JsonWaddleStorage(testFolder.resolve("waddle.json")));
+        Path otherFilePath = testFolder.resolve("other.json");
+
+        storage.saveWaddle(getTypicalWaddle(), otherFilePath);
+        assertEquals(getTypicalWaddle(), new Waddle(storage.readWaddle(otherFilePath).get()));
+        assertFalse(storage.readWaddle().isPresent());
+    }
+
+    @Test
+    public void flush_writeFailed_throwsIoExceptionOnce() throws Exception {
+        WriteBehindWaddleStorage storage =
+                new WriteBehindWaddleStorage(new FailingJsonWaddleStorage(testFolder.resolve("waddle.json")));
+
+        storage.saveWaddle(getTypicalWaddle());
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), storage::flush);
+        storage.flush();
+    }
+
+    /**
+     * A stub that blocks the first write until {@code finishWrite} is counted down.
+     */
+    private static class BlockingJsonWaddleStorage extends JsonWaddleStorage {
+        private final CountDownLatch writeStarted = new CountDownLatch(1);
+        private final CountDownLatch finishWrite = new CountDownLatch(1);
+        private final AtomicInteger writeCount = new AtomicInteger();
+
+        private BlockingJsonWaddleStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        void saveSnapshot(JsonSerializableWaddle snapshot, Path filePath) throws IOException {
+            writeCount.incrementAndGet();
+            writeStarted.countDown();
+            try {
+                finishWrite.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            super.saveSnapshot(snapshot, filePath);
+        }
+    }
+
+    /**
+     * A stub that throws an {@code IOException} on every write.
+     */
+    private static class FailingJsonWaddleStorage extends JsonWaddleStorage {
+        private FailingJsonWaddleStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        void saveSnapshot(JsonSerializableWaddle snapshot, Path filePath) throws IOException {
+            throw DUMMY_IO_EXCEPTION;
+        }
+    }
+}